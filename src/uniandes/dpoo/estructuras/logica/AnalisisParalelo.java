@@ -0,0 +1,150 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Recorridos fork-join sobre las primeras n posiciones de un arreglo de enteros.
+ *
+ * Cada tarea parte su segmento a la mitad hasta que mide a lo sumo umbral posiciones, recorre ese pedazo
+ * secuencialmente y luego combina los resultados parciales de las dos mitades.
+ */
+final class AnalisisParalelo
+{
+    private AnalisisParalelo( )
+    {
+    }
+
+    /** Retorna {min, max} de a[0, n). El segmento no puede estar vacío. */
+    static int[] calcularRango( ForkJoinPool pool, int[] a, int n, int umbral )
+    {
+        return pool.invoke(new TareaRango(a, 0, n, umbral));
+    }
+
+    /** Cuenta cuántas veces aparece valor en a[0, n). */
+    static int contarApariciones( ForkJoinPool pool, int[] a, int n, int valor, int umbral )
+    {
+        return pool.invoke(new TareaConteo(a, 0, n, valor, umbral));
+    }
+
+    /** Calcula el histograma (valor → frecuencia) de a[0, n). */
+    static MapaFrecuencias calcularHistograma( ForkJoinPool pool, int[] a, int n, int umbral )
+    {
+        return pool.invoke(new TareaHistograma(a, 0, n, umbral));
+    }
+
+    /** Mínimo y máximo por pedazo; se combinan tomando el menor de los mínimos y el mayor de los máximos. */
+    private static final class TareaRango extends RecursiveTask<int[]>
+    {
+        private final int[] a;
+        private final int desde;
+        private final int hasta;
+        private final int umbral;
+
+        TareaRango( int[] a, int desde, int hasta, int umbral )
+        {
+            this.a = a;
+            this.desde = desde;
+            this.hasta = hasta;
+            this.umbral = umbral;
+        }
+
+        @Override
+        protected int[] compute( )
+        {
+            if (hasta - desde <= umbral)
+            {
+                int min = a[desde], max = a[desde];
+                for (int i = desde + 1; i < hasta; i++)
+                {
+                    int x = a[i];
+                    if (x < min) min = x;
+                    if (x > max) max = x;
+                }
+                return new int[]{ min, max };
+            }
+            int medio = (desde + hasta) >>> 1;
+            TareaRango izquierda = new TareaRango(a, desde, medio, umbral);
+            izquierda.fork();
+            int[] der = new TareaRango(a, medio, hasta, umbral).compute();
+            int[] izq = izquierda.join();
+            return new int[]{ Math.min(izq[0], der[0]), Math.max(izq[1], der[1]) };
+        }
+    }
+
+    /** Conteo por pedazo; se combinan sumando. */
+    private static final class TareaConteo extends RecursiveTask<Integer>
+    {
+        private final int[] a;
+        private final int desde;
+        private final int hasta;
+        private final int valor;
+        private final int umbral;
+
+        TareaConteo( int[] a, int desde, int hasta, int valor, int umbral )
+        {
+            this.a = a;
+            this.desde = desde;
+            this.hasta = hasta;
+            this.valor = valor;
+            this.umbral = umbral;
+        }
+
+        @Override
+        protected Integer compute( )
+        {
+            if (hasta - desde <= umbral)
+            {
+                int c = 0;
+                for (int i = desde; i < hasta; i++) if (a[i] == valor) c++;
+                return c;
+            }
+            int medio = (desde + hasta) >>> 1;
+            TareaConteo izquierda = new TareaConteo(a, desde, medio, valor, umbral);
+            izquierda.fork();
+            int der = new TareaConteo(a, medio, hasta, valor, umbral).compute();
+            return izquierda.join() + der;
+        }
+    }
+
+    /** Tabla de frecuencias por pedazo; se combinan vaciando la tabla más pequeña en la más grande. */
+    private static final class TareaHistograma extends RecursiveTask<MapaFrecuencias>
+    {
+        private final int[] a;
+        private final int desde;
+        private final int hasta;
+        private final int umbral;
+
+        TareaHistograma( int[] a, int desde, int hasta, int umbral )
+        {
+            this.a = a;
+            this.desde = desde;
+            this.hasta = hasta;
+            this.umbral = umbral;
+        }
+
+        @Override
+        protected MapaFrecuencias compute( )
+        {
+            if (hasta - desde <= umbral)
+            {
+                MapaFrecuencias h = new MapaFrecuencias();
+                for (int i = desde; i < hasta; i++) h.incrementar(a[i]);
+                return h;
+            }
+            int medio = (desde + hasta) >>> 1;
+            TareaHistograma izquierda = new TareaHistograma(a, desde, medio, umbral);
+            izquierda.fork();
+            MapaFrecuencias mayor = new TareaHistograma(a, medio, hasta, umbral).compute();
+            MapaFrecuencias menor = izquierda.join();
+            if (menor.size() > mayor.size())
+            {
+                MapaFrecuencias t = menor;
+                menor = mayor;
+                mayor = t;
+            }
+            mayor.sumarTodo(menor);
+            return mayor;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.SortedSet;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Conjunto inmutable de cadenas guardado como un tramo de un arreglo ordenado y sin repetidos.
+ *
+ * Sirve para cargar un TreeSet en tiempo lineal: TreeSet.addAll (con el conjunto vacío) y el constructor
+ * TreeSet(SortedSet) reconocen un SortedSet con el mismo comparador y arman el árbol directamente desde la
+ * secuencia ordenada, sin insertar ni rebalancear elemento por elemento. Las búsquedas son binarias.
+ */
+final class CadenasOrdenadas extends AbstractSet<String> implements SortedSet<String>
+{
+    /** Desde este tamaño el arreglo se ordena en paralelo. */
+    private static final int UMBRAL_PARALELO = 1 << 16;
+
+    /** Cadenas en orden natural, sin repetidos, en las posiciones [desde, hasta). */
+    private final String[] cadenas;
+
+    private final int desde;
+
+    private final int hasta;
+
+    private CadenasOrdenadas( String[] cadenas, int desde, int hasta )
+    {
+        this.cadenas = cadenas;
+        this.desde = desde;
+        this.hasta = hasta;
+    }
+
+    /**
+     * Convierte cada objeto con String.valueOf, ordena (salvo que ya vengan en orden, lo que se revisa en
+     * una pasada) y quita los repetidos. Las entradas grandes se ordenan en paralelo.
+     */
+    static CadenasOrdenadas de( Collection<?> objetos )
+    {
+        String[] a = ordenarSinRepetidos(objetos);
+        return new CadenasOrdenadas(a, 0, a.length);
+    }
+
+    /** Como de( objetos ), pero retorna directamente un arreglo nuevo con el tamaño exacto. */
+    static String[] ordenarSinRepetidos( Collection<?> objetos )
+    {
+        String[] a = new String[objetos.size()];
+        int n = 0;
+        boolean ordenado = true;
+        for (Object o : objetos)
+        {
+            String s = String.valueOf(o);
+            if (n > 0 && ordenado && a[n - 1].compareTo(s) > 0) ordenado = false;
+            a[n++] = s;
+        }
+        if (!ordenado)
+        {
+            if (n >= UMBRAL_PARALELO) OrdenamientoCadenas.ordenarEnParalelo(ForkJoinPool.commonPool(), a, n, UMBRAL_PARALELO);
+            else OrdenamientoCadenas.ordenar(a, n);
+        }
+
+        int j = 0;
+        for (int i = 0; i < n; i++)
+        {
+            if (j == 0 || !a[j - 1].equals(a[i])) a[j++] = a[i];
+        }
+        return j == n ? a : Arrays.copyOf(a, j);
+    }
+
+    @Override
+    public int size( )
+    {
+        return hasta - desde;
+    }
+
+    @Override
+    public boolean contains( Object o )
+    {
+        return o instanceof String && Arrays.binarySearch(cadenas, desde, hasta, o) >= 0;
+    }
+
+    @Override
+    public Iterator<String> iterator( )
+    {
+        return new Iterator<String>( )
+        {
+            private int i = desde;
+
+            @Override
+            public boolean hasNext( )
+            {
+                return i < hasta;
+            }
+
+            @Override
+            public String next( )
+            {
+                if (i >= hasta) throw new NoSuchElementException();
+                return cadenas[i++];
+            }
+        };
+    }
+
+    @Override
+    public Object[] toArray( )
+    {
+        return Arrays.copyOfRange(cadenas, desde, hasta, Object[].class);
+    }
+
+    /** Orden natural. */
+    @Override
+    public Comparator<? super String> comparator( )
+    {
+        return null;
+    }
+
+    @Override
+    public String first( )
+    {
+        if (desde == hasta) throw new NoSuchElementException();
+        return cadenas[desde];
+    }
+
+    @Override
+    public String last( )
+    {
+        if (desde == hasta) throw new NoSuchElementException();
+        return cadenas[hasta - 1];
+    }
+
+    @Override
+    public SortedSet<String> subSet( String inicio, String fin )
+    {
+        if (inicio.compareTo(fin) > 0) throw new IllegalArgumentException("inicio > fin");
+        return new CadenasOrdenadas(cadenas, posicion(inicio), posicion(fin));
+    }
+
+    @Override
+    public SortedSet<String> headSet( String fin )
+    {
+        return new CadenasOrdenadas(cadenas, desde, posicion(fin));
+    }
+
+    @Override
+    public SortedSet<String> tailSet( String inicio )
+    {
+        return new CadenasOrdenadas(cadenas, posicion(inicio), hasta);
+    }
+
+    /** Primera posición del tramo cuya cadena es >= a la dada. */
+    private int posicion( String cadena )
+    {
+        int p = Arrays.binarySearch(cadenas, desde, hasta, cadena);
+        return p >= 0 ? p : -p - 1;
+    }
+}
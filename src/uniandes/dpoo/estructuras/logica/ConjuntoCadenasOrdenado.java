@@ -0,0 +1,472 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.SortedSet;
+import java.util.function.Predicate;
+
+/**
+ * Conjunto de cadenas en orden natural guardado en un arreglo ordenado, sin repetidos y del tamaño exacto.
+ *
+ * Las consultas (contains, first, ceiling, tailSet, ...) son búsquedas binarias sobre el arreglo, que ocupa una
+ * referencia por cadena en lugar de un nodo de TreeSet. El arreglo nunca se modifica en su lugar: cada
+ * escritura arma uno nuevo (add y remove lo copian corriendo un tramo, addAll mezcla en una pasada las
+ * cadenas nuevas ya ordenadas, removeIf filtra en una pasada), así que conviene cuando se escribe poco.
+ *
+ * Las vistas (subSet, headSet, tailSet, descendingSet) comparten el arreglo con el conjunto y reflejan sus
+ * cambios. Los iteradores recorren el arreglo que había al crearlos: nunca lanzan
+ * ConcurrentModificationException y no ven las escrituras posteriores. No admite null.
+ */
+public class ConjuntoCadenasOrdenado extends AbstractSet<String> implements NavigableSet<String>
+{
+    private static final String[] VACIO = new String[0];
+
+    /** Arreglo compartido por el conjunto y todas sus vistas. */
+    private static final class Contenido
+    {
+        private String[] cadenas = VACIO;
+    }
+
+    private final Contenido contenido;
+
+    /** Límite inferior de la vista (en orden natural), o null si no tiene. */
+    private final String desde;
+
+    private final boolean desdeIncluido;
+
+    /** Límite superior de la vista (en orden natural), o null si no tiene. */
+    private final String hasta;
+
+    private final boolean hastaIncluido;
+
+    /** Indica si la vista recorre de mayor a menor. */
+    private final boolean invertido;
+
+    /** Crea un conjunto vacío. */
+    public ConjuntoCadenasOrdenado( )
+    {
+        this(new Contenido(), null, false, null, false, false);
+    }
+
+    /** Crea un conjunto con las cadenas dadas. */
+    public ConjuntoCadenasOrdenado( Collection<? extends String> cadenas )
+    {
+        this();
+        addAll(cadenas);
+    }
+
+    private ConjuntoCadenasOrdenado( Contenido contenido, String desde, boolean desdeIncluido, String hasta, boolean hastaIncluido, boolean invertido )
+    {
+        this.contenido = contenido;
+        this.desde = desde;
+        this.desdeIncluido = desdeIncluido;
+        this.hasta = hasta;
+        this.hastaIncluido = hastaIncluido;
+        this.invertido = invertido;
+    }
+
+    // ------------------------------------------------------------------------------------------------
+    // Posiciones dentro del arreglo
+    // ------------------------------------------------------------------------------------------------
+
+    /** Primera posición de a cuya cadena es >= x, o > x si estricto. */
+    private static int posicion( String[] a, String x, boolean estricto )
+    {
+        int p = Arrays.binarySearch(a, x);
+        if (p < 0) return -p - 1;
+        return estricto ? p + 1 : p;
+    }
+
+    /** Primera posición de a que está dentro de la vista. */
+    private int inicio( String[] a )
+    {
+        return desde == null ? 0 : posicion(a, desde, !desdeIncluido);
+    }
+
+    /** Posición siguiente a la última de a que está dentro de la vista (nunca antes de inicio). */
+    private int fin( String[] a )
+    {
+        if (hasta == null) return a.length;
+        int f = posicion(a, hasta, hastaIncluido);
+        return desde == null ? f : Math.max(f, inicio(a));
+    }
+
+    /** Indica si la cadena está entre los límites de la vista, respetando si están incluidos. */
+    private boolean enRango( String x )
+    {
+        if (desde != null && (desdeIncluido ? x.compareTo(desde) < 0 : x.compareTo(desde) <= 0)) return false;
+        return hasta == null || (hastaIncluido ? x.compareTo(hasta) <= 0 : x.compareTo(hasta) < 0);
+    }
+
+    /** Indica si la cadena está entre los límites de la vista, contándolos como incluidos. */
+    private boolean enRangoCerrado( String x )
+    {
+        return (desde == null || x.compareTo(desde) >= 0) && (hasta == null || x.compareTo(hasta) <= 0);
+    }
+
+    // ------------------------------------------------------------------------------------------------
+    // Consultas
+    // ------------------------------------------------------------------------------------------------
+
+    @Override
+    public int size( )
+    {
+        String[] a = contenido.cadenas;
+        return fin(a) - inicio(a);
+    }
+
+    @Override
+    public boolean contains( Object o )
+    {
+        if (!(o instanceof String)) return false;
+        String x = (String) o;
+        return enRango(x) && Arrays.binarySearch(contenido.cadenas, x) >= 0;
+    }
+
+    @Override
+    public Iterator<String> iterator( )
+    {
+        return new Cursor(invertido);
+    }
+
+    @Override
+    public Iterator<String> descendingIterator( )
+    {
+        return new Cursor(!invertido);
+    }
+
+    @Override
+    public Object[] toArray( )
+    {
+        String[] a = contenido.cadenas;
+        Object[] copia = Arrays.copyOfRange(a, inicio(a), fin(a), Object[].class);
+        if (invertido) Collections.reverse(Arrays.asList(copia));
+        return copia;
+    }
+
+    @Override
+    public Comparator<? super String> comparator( )
+    {
+        return invertido ? Collections.reverseOrder() : null;
+    }
+
+    @Override
+    public String first( )
+    {
+        String s = extremo(!invertido);
+        if (s == null) throw new NoSuchElementException();
+        return s;
+    }
+
+    @Override
+    public String last( )
+    {
+        String s = extremo(invertido);
+        if (s == null) throw new NoSuchElementException();
+        return s;
+    }
+
+    @Override
+    public String lower( String x )
+    {
+        return invertido ? techo(x, true) : piso(x, true);
+    }
+
+    @Override
+    public String floor( String x )
+    {
+        return invertido ? techo(x, false) : piso(x, false);
+    }
+
+    @Override
+    public String ceiling( String x )
+    {
+        return invertido ? piso(x, false) : techo(x, false);
+    }
+
+    @Override
+    public String higher( String x )
+    {
+        return invertido ? piso(x, true) : techo(x, true);
+    }
+
+    /** Menor (si menor) o mayor cadena de la vista en orden natural, o null si está vacía. */
+    private String extremo( boolean menor )
+    {
+        String[] a = contenido.cadenas;
+        int i = inicio(a), f = fin(a);
+        if (i == f) return null;
+        return menor ? a[i] : a[f - 1];
+    }
+
+    /** Menor cadena de la vista que es >= x (> x si estricto), o null. */
+    private String techo( String x, boolean estricto )
+    {
+        String[] a = contenido.cadenas;
+        int i = Math.max(posicion(a, x, estricto), inicio(a));
+        return i < fin(a) ? a[i] : null;
+    }
+
+    /** Mayor cadena de la vista que es <= x (< x si estricto), o null. */
+    private String piso( String x, boolean estricto )
+    {
+        String[] a = contenido.cadenas;
+        int i = Math.min(posicion(a, x, !estricto), fin(a)) - 1;
+        return i >= inicio(a) ? a[i] : null;
+    }
+
+    // ------------------------------------------------------------------------------------------------
+    // Escrituras: cada una reemplaza el arreglo por uno nuevo
+    // ------------------------------------------------------------------------------------------------
+
+    @Override
+    public boolean add( String x )
+    {
+        verificarEnRango(x);
+        String[] a = contenido.cadenas;
+        int p = Arrays.binarySearch(a, x);
+        if (p >= 0) return false;
+        p = -p - 1;
+        String[] nuevo = new String[a.length + 1];
+        System.arraycopy(a, 0, nuevo, 0, p);
+        nuevo[p] = x;
+        System.arraycopy(a, p, nuevo, p + 1, a.length - p);
+        contenido.cadenas = nuevo;
+        return true;
+    }
+
+    @Override
+    public boolean remove( Object o )
+    {
+        if (!(o instanceof String) || !enRango((String) o)) return false;
+        String[] a = contenido.cadenas;
+        int p = Arrays.binarySearch(a, o);
+        if (p < 0) return false;
+        quitarTramo(a, p, p + 1);
+        return true;
+    }
+
+    /**
+     * Agrega todas las cadenas mezclándolas con el arreglo actual en una sola pasada, O(n + m) más lo que cueste
+     * ordenar las m nuevas (nada si vienen en un SortedSet con orden natural). Si alguna queda fuera del rango
+     * de la vista no se agrega ninguna.
+     */
+    @Override
+    public boolean addAll( Collection<? extends String> cadenas )
+    {
+        String[] b = ordenadas(cadenas);
+        if (b.length == 0) return false;
+        verificarEnRango(b[0]);
+        verificarEnRango(b[b.length - 1]);
+
+        String[] a = contenido.cadenas;
+        if (a.length == 0)
+        {
+            contenido.cadenas = b;
+            return true;
+        }
+        String[] mezcla = new String[a.length + b.length];
+        int i = 0, j = 0, k = 0;
+        while (i < a.length && j < b.length)
+        {
+            int c = a[i].compareTo(b[j]);
+            if (c <= 0) mezcla[k++] = a[i++];
+            else mezcla[k++] = b[j++];
+            if (c == 0) j++;
+        }
+        while (i < a.length) mezcla[k++] = a[i++];
+        while (j < b.length) mezcla[k++] = b[j++];
+        if (k == a.length) return false;
+        contenido.cadenas = k == mezcla.length ? mezcla : Arrays.copyOf(mezcla, k);
+        return true;
+    }
+
+    /** Retorna las cadenas ordenadas y sin repetidos en un arreglo nuevo. */
+    private static String[] ordenadas( Collection<? extends String> cadenas )
+    {
+        if (cadenas instanceof SortedSet && ((SortedSet<?>) cadenas).comparator() == null) return cadenas.toArray(VACIO);
+        for (String s : cadenas) Objects.requireNonNull(s);
+        return CadenasOrdenadas.ordenarSinRepetidos(cadenas);
+    }
+
+    /** Elimina en una sola pasada las cadenas de la vista que cumplen la condición. */
+    @Override
+    public boolean removeIf( Predicate<? super String> condicion )
+    {
+        String[] a = contenido.cadenas;
+        int i = inicio(a), f = fin(a);
+        String[] nuevo = new String[a.length];
+        System.arraycopy(a, 0, nuevo, 0, i);
+        int k = i;
+        for (int p = i; p < f; p++)
+        {
+            if (!condicion.test(a[p])) nuevo[k++] = a[p];
+        }
+        if (k == f) return false;
+        System.arraycopy(a, f, nuevo, k, a.length - f);
+        contenido.cadenas = Arrays.copyOf(nuevo, k + a.length - f);
+        return true;
+    }
+
+    @Override
+    public boolean removeAll( Collection<?> otras )
+    {
+        Objects.requireNonNull(otras);
+        return removeIf(otras::contains);
+    }
+
+    @Override
+    public boolean retainAll( Collection<?> otras )
+    {
+        Objects.requireNonNull(otras);
+        return removeIf(s -> !otras.contains(s));
+    }
+
+    @Override
+    public void clear( )
+    {
+        String[] a = contenido.cadenas;
+        quitarTramo(a, inicio(a), fin(a));
+    }
+
+    @Override
+    public String pollFirst( )
+    {
+        String s = extremo(!invertido);
+        if (s != null) remove(s);
+        return s;
+    }
+
+    @Override
+    public String pollLast( )
+    {
+        String s = extremo(invertido);
+        if (s != null) remove(s);
+        return s;
+    }
+
+    /** Reemplaza el arreglo por uno sin las posiciones [i, f) de a. */
+    private void quitarTramo( String[] a, int i, int f )
+    {
+        if (i == f) return;
+        String[] nuevo = new String[a.length - (f - i)];
+        System.arraycopy(a, 0, nuevo, 0, i);
+        System.arraycopy(a, f, nuevo, i, a.length - f);
+        contenido.cadenas = nuevo;
+    }
+
+    private void verificarEnRango( String x )
+    {
+        Objects.requireNonNull(x);
+        if (!enRango(x)) throw new IllegalArgumentException("Cadena fuera del rango de la vista: " + x);
+    }
+
+    // ------------------------------------------------------------------------------------------------
+    // Vistas
+    // ------------------------------------------------------------------------------------------------
+
+    @Override
+    public NavigableSet<String> descendingSet( )
+    {
+        return new ConjuntoCadenasOrdenado(contenido, desde, desdeIncluido, hasta, hastaIncluido, !invertido);
+    }
+
+    @Override
+    public NavigableSet<String> subSet( String inicio, boolean inicioIncluido, String fin, boolean finIncluido )
+    {
+        verificarLimite(inicio, inicioIncluido);
+        verificarLimite(fin, finIncluido);
+        if ((invertido ? fin.compareTo(inicio) : inicio.compareTo(fin)) > 0) throw new IllegalArgumentException("inicio > fin");
+        if (invertido) return new ConjuntoCadenasOrdenado(contenido, fin, finIncluido, inicio, inicioIncluido, true);
+        return new ConjuntoCadenasOrdenado(contenido, inicio, inicioIncluido, fin, finIncluido, false);
+    }
+
+    @Override
+    public NavigableSet<String> headSet( String fin, boolean incluido )
+    {
+        verificarLimite(fin, incluido);
+        if (invertido) return new ConjuntoCadenasOrdenado(contenido, fin, incluido, hasta, hastaIncluido, true);
+        return new ConjuntoCadenasOrdenado(contenido, desde, desdeIncluido, fin, incluido, false);
+    }
+
+    @Override
+    public NavigableSet<String> tailSet( String inicio, boolean incluido )
+    {
+        verificarLimite(inicio, incluido);
+        if (invertido) return new ConjuntoCadenasOrdenado(contenido, desde, desdeIncluido, inicio, incluido, true);
+        return new ConjuntoCadenasOrdenado(contenido, inicio, incluido, hasta, hastaIncluido, false);
+    }
+
+    @Override
+    public SortedSet<String> subSet( String inicio, String fin )
+    {
+        return subSet(inicio, true, fin, false);
+    }
+
+    @Override
+    public SortedSet<String> headSet( String fin )
+    {
+        return headSet(fin, false);
+    }
+
+    @Override
+    public SortedSet<String> tailSet( String inicio )
+    {
+        return tailSet(inicio, true);
+    }
+
+    /** Un límite nuevo para una vista debe quedar dentro de los límites de esta (como en TreeSet). */
+    private void verificarLimite( String x, boolean incluido )
+    {
+        Objects.requireNonNull(x);
+        if (incluido ? !enRango(x) : !enRangoCerrado(x)) throw new IllegalArgumentException("Límite fuera del rango de la vista: " + x);
+    }
+
+    /** Iterador sobre el arreglo que había al crearlo. */
+    private final class Cursor implements Iterator<String>
+    {
+        private final String[] a = contenido.cadenas;
+        private final int paso;
+        private final int limite;
+        private int i;
+        private String ultimo;
+
+        Cursor( boolean haciaAtras )
+        {
+            int ini = inicio(a), f = fin(a);
+            paso = haciaAtras ? -1 : 1;
+            i = haciaAtras ? f - 1 : ini;
+            limite = haciaAtras ? ini - 1 : f;
+        }
+
+        @Override
+        public boolean hasNext( )
+        {
+            return i != limite;
+        }
+
+        @Override
+        public String next( )
+        {
+            if (i == limite) throw new NoSuchElementException();
+            ultimo = a[i];
+            i += paso;
+            return ultimo;
+        }
+
+        @Override
+        public void remove( )
+        {
+            if (ultimo == null) throw new IllegalStateException();
+            ConjuntoCadenasOrdenado.this.remove(ultimo);
+            ultimo = null;
+        }
+    }
+}
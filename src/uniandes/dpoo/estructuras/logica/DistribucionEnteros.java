@@ -0,0 +1,25 @@
+package uniandes.dpoo.estructuras.logica;
+
+/**
+ * Distribución de los enteros que produce GeneradorEnteros dentro de un rango [minimo, maximo].
+ */
+public enum DistribucionEnteros
+{
+    /** Todos los valores del rango tienen la misma probabilidad. */
+    UNIFORME,
+
+    /**
+     * Zipf con exponente 1: el valor minimo + k - 1 aparece con probabilidad proporcional a 1 / k, así que unos
+     * pocos valores cerca de minimo concentran la mayoría de las apariciones.
+     */
+    ZIPF,
+
+    /** Normal centrada en la mitad del rango, con desviación de un sexto del rango; nunca sale del rango. */
+    NORMAL,
+
+    /**
+     * La posición i recibe minimo + (i módulo el tamaño del rango) más un ruido uniforme de hasta 1% del rango
+     * (al menos 1), ajustado para no salir del rango. Sirve para simular datos casi ordenados.
+     */
+    SECUENCIAL_CON_RUIDO
+}
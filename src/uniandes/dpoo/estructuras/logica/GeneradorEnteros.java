@@ -0,0 +1,192 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.IntStream;
+
+/**
+ * Generador de enteros aleatorios basado en SplittableRandom, con las distribuciones de DistribucionEnteros.
+ *
+ * El destino se llena por bloques de TAMANO_BLOQUE posiciones y cada bloque usa su propio generador, obtenido
+ * con split() en el orden de los bloques. Por eso, con la misma semilla, el resultado es idéntico sin importar
+ * si el llenado es secuencial o paralelo ni cuántos hilos participen. Una instancia no debe usarse desde
+ * varios hilos a la vez.
+ */
+public class GeneradorEnteros
+{
+    /** Cantidad de posiciones que llena cada generador hijo. */
+    private static final int TAMANO_BLOQUE = 1 << 14;
+
+    /** Generador del que se separa uno nuevo para cada bloque. */
+    private final SplittableRandom raiz;
+
+    /** Crea un generador con una semilla arbitraria. */
+    public GeneradorEnteros( )
+    {
+        raiz = new SplittableRandom();
+    }
+
+    /** Crea un generador reproducible: la misma semilla produce siempre la misma secuencia. */
+    public GeneradorEnteros( long semilla )
+    {
+        raiz = new SplittableRandom(semilla);
+    }
+
+    /**
+     * Llena destino[0, n) con enteros uniformes en [minimo, maximo] (inclusive) en el hilo actual.
+     * Si minimo > maximo se intercambian.
+     */
+    public void llenar( int[] destino, int n, int minimo, int maximo )
+    {
+        llenar(destino, n, minimo, maximo, DistribucionEnteros.UNIFORME);
+    }
+
+    /**
+     * Llena destino[0, n) con enteros en [minimo, maximo] (inclusive) según la distribución, en el hilo actual.
+     * Si minimo > maximo se intercambian; null equivale a UNIFORME.
+     */
+    public void llenar( int[] destino, int n, int minimo, int maximo, DistribucionEnteros distribucion )
+    {
+        Muestreo muestreo = new Muestreo(minimo, maximo, distribucion);
+        SplittableRandom[] generadores = separar(n);
+        for (int b = 0; b < generadores.length; b++)
+            llenarBloque(generadores[b], destino, b, n, muestreo);
+    }
+
+    /**
+     * Llena destino[0, n) igual que llenar, pero repartiendo los bloques sobre el pool.
+     * Con la misma semilla produce exactamente el mismo resultado que llenar.
+     */
+    public void llenarEnParalelo( ForkJoinPool pool, int[] destino, int n, int minimo, int maximo )
+    {
+        llenarEnParalelo(pool, destino, n, minimo, maximo, DistribucionEnteros.UNIFORME);
+    }
+
+    /**
+     * Llena destino[0, n) igual que llenar con la distribución dada, pero repartiendo los bloques sobre el pool.
+     * Con la misma semilla produce exactamente el mismo resultado que llenar.
+     */
+    public void llenarEnParalelo( ForkJoinPool pool, int[] destino, int n, int minimo, int maximo, DistribucionEnteros distribucion )
+    {
+        Muestreo muestreo = new Muestreo(minimo, maximo, distribucion);
+        SplittableRandom[] generadores = separar(n);
+        pool.invoke(ForkJoinTask.adapt(( ) -> IntStream.range(0, generadores.length).parallel()
+            .forEach(b -> llenarBloque(generadores[b], destino, b, n, muestreo))));
+    }
+
+    /**
+     * Retorna un entero uniforme en [minimo, maximo] (inclusive) sin sesgo, incluso si el rango cubre todos los int.
+     */
+    public static int siguiente( SplittableRandom generador, int minimo, int maximo )
+    {
+        if (maximo < Integer.MAX_VALUE) return generador.nextInt(minimo, maximo + 1);
+        if (minimo == Integer.MIN_VALUE) return generador.nextInt();
+        return generador.nextInt(minimo - 1, maximo) + 1; // evita desbordar maximo + 1
+    }
+
+    /** Separa, en orden, un generador por cada bloque de n posiciones. */
+    private SplittableRandom[] separar( int n )
+    {
+        SplittableRandom[] generadores = new SplittableRandom[(n + TAMANO_BLOQUE - 1) / TAMANO_BLOQUE];
+        for (int b = 0; b < generadores.length; b++) generadores[b] = raiz.split();
+        return generadores;
+    }
+
+    /** Llena el bloque b de destino[0, n). */
+    private static void llenarBloque( SplittableRandom generador, int[] destino, int b, int n, Muestreo muestreo )
+    {
+        int desde = b * TAMANO_BLOQUE;
+        int hasta = Math.min(n, desde + TAMANO_BLOQUE);
+        for (int i = desde; i < hasta; i++) destino[i] = muestreo.siguiente(generador, i);
+    }
+
+    /**
+     * Parámetros de una distribución sobre un rango, calculados una vez por llenado.
+     * No tiene estado mutable, así que los bloques paralelos lo comparten.
+     */
+    private static final class Muestreo
+    {
+        /** Probabilidad extra de aceptar en el muestreo de Zipf: 2 - H⁻¹(H(2.5) - h(2)), con H = log y h = 1/x. */
+        private static final double ACEPTACION_ZIPF = 2 - Math.exp(Math.log(2.5) - 0.5);
+
+        private final DistribucionEnteros distribucion;
+        private final int menor;
+        private final int mayor;
+
+        /** Cantidad de valores del rango (hasta 2^32, por eso long). */
+        private final long amplitud;
+
+        /** Zipf: H(1.5) - h(1) y H(amplitud + 0.5), los extremos del intervalo que se muestrea. */
+        private final double zipfInferior;
+        private final double zipfSuperior;
+
+        /** Secuencial con ruido: desplazamiento máximo hacia cada lado. */
+        private final long ruido;
+
+        Muestreo( int minimo, int maximo, DistribucionEnteros distribucion )
+        {
+            this.distribucion = distribucion == null ? DistribucionEnteros.UNIFORME : distribucion;
+            menor = Math.min(minimo, maximo);
+            mayor = Math.max(minimo, maximo);
+            amplitud = (long) mayor - menor + 1;
+            zipfInferior = Math.log(1.5) - 1;
+            zipfSuperior = Math.log(amplitud + 0.5);
+            ruido = Math.max(1, amplitud / 100);
+        }
+
+        /** Retorna el valor para la posición i del destino. */
+        int siguiente( SplittableRandom generador, int i )
+        {
+            switch (distribucion)
+            {
+                case ZIPF:
+                    return (int) (menor + rangoZipf(generador) - 1);
+                case NORMAL:
+                    return normal(generador);
+                case SECUENCIAL_CON_RUIDO:
+                    long base = menor + i % amplitud;
+                    long valor = base + generador.nextLong(-ruido, ruido + 1);
+                    return (int) Math.max(menor, Math.min(mayor, valor));
+                default:
+                    return GeneradorEnteros.siguiente(generador, menor, mayor);
+            }
+        }
+
+        /**
+         * Retorna un k en [1, amplitud] con probabilidad proporcional a 1 / k, por rechazo-inversión
+         * (Hörmann y Derflinger): O(1) esperado sin tablas, aunque el rango tenga 2^32 valores.
+         */
+        private long rangoZipf( SplittableRandom generador )
+        {
+            while (true)
+            {
+                double u = zipfSuperior + generador.nextDouble() * (zipfInferior - zipfSuperior);
+                double x = Math.exp(u);
+                long k = Math.max(1, Math.min(amplitud, (long) (x + 0.5)));
+                if (k - x <= ACEPTACION_ZIPF || u >= Math.log(k + 0.5) - 1.0 / k) return k;
+            }
+        }
+
+        /** Normal redondeada con el método polar de Marsaglia; los valores por fuera del rango se vuelven a sacar. */
+        private int normal( SplittableRandom generador )
+        {
+            if (amplitud == 1) return menor;
+            double media = ((double) menor + mayor) / 2;
+            double desviacion = amplitud / 6.0;
+            while (true)
+            {
+                double v1, v2, s;
+                do
+                {
+                    v1 = 2 * generador.nextDouble() - 1;
+                    v2 = 2 * generador.nextDouble() - 1;
+                    s = v1 * v1 + v2 * v2;
+                }
+                while (s >= 1 || s == 0);
+                double valor = Math.rint(media + desviacion * v1 * Math.sqrt(-2 * Math.log(s) / s));
+                if (valor >= menor && valor <= mayor) return (int) valor;
+            }
+        }
+    }
+}
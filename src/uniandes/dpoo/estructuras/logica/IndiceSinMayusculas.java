@@ -0,0 +1,107 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.HashMap;
+import java.util.TreeSet;
+
+/**
+ * Índice de cadenas por su forma sin mayúsculas ni minúsculas: dos cadenas tienen la misma llave exactamente
+ * cuando equalsIgnoreCase las considera iguales. Permite buscar y eliminar ignorando mayúsculas en O(1)
+ * esperado en lugar de recorrer todo el conjunto.
+ *
+ * Como casi siempre hay una sola variante por llave, el valor del mapa es directamente esa cadena; sólo
+ * cuando hay varias (por ejemplo "Hola" y "HOLA") se guarda un TreeSet con ellas.
+ */
+final class IndiceSinMayusculas
+{
+    /** Llave plegada → la única variante (String) o todas las variantes en orden natural (TreeSet). */
+    private final HashMap<String, Object> variantes = new HashMap<>();
+
+    /**
+     * Retorna la llave de la cadena: cada carácter pasa a minúscula de su mayúscula, que es la misma
+     * comparación que hace equalsIgnoreCase. Si la cadena ya está plegada la retorna sin crear otra.
+     */
+    static String plegar( String cadena )
+    {
+        int n = cadena.length();
+        int i = 0;
+        while (i < n)
+        {
+            int c = cadena.codePointAt(i);
+            if (plegar(c) != c) break;
+            i += Character.charCount(c);
+        }
+        if (i == n) return cadena;
+
+        StringBuilder sb = new StringBuilder(n);
+        sb.append(cadena, 0, i);
+        while (i < n)
+        {
+            int c = cadena.codePointAt(i);
+            sb.appendCodePoint(plegar(c));
+            i += Character.charCount(c);
+        }
+        return sb.toString();
+    }
+
+    private static int plegar( int c )
+    {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    /** Registra una cadena que se acaba de agregar al conjunto. */
+    @SuppressWarnings("unchecked")
+    void agregar( String cadena )
+    {
+        String llave = plegar(cadena);
+        Object actual = variantes.putIfAbsent(llave, cadena);
+        if (actual == null || actual.equals(cadena)) return;
+        if (actual instanceof TreeSet)
+        {
+            ((TreeSet<String>) actual).add(cadena);
+            return;
+        }
+        TreeSet<String> varias = new TreeSet<>();
+        varias.add((String) actual);
+        varias.add(cadena);
+        variantes.put(llave, varias);
+    }
+
+    /** Registra que la cadena salió del conjunto. */
+    @SuppressWarnings("unchecked")
+    void quitar( String cadena )
+    {
+        String llave = plegar(cadena);
+        Object actual = variantes.get(llave);
+        if (actual == null) return;
+        if (!(actual instanceof TreeSet))
+        {
+            if (actual.equals(cadena)) variantes.remove(llave);
+            return;
+        }
+        TreeSet<String> varias = (TreeSet<String>) actual;
+        varias.remove(cadena);
+        if (varias.size() == 1) variantes.put(llave, varias.first());
+    }
+
+    /** Retorna la menor (en orden natural) de las cadenas iguales a la dada ignorando mayúsculas, o null. */
+    @SuppressWarnings("unchecked")
+    String menorVariante( String cadena )
+    {
+        Object actual = variantes.get(plegar(cadena));
+        if (actual == null || !(actual instanceof TreeSet)) return (String) actual;
+        return ((TreeSet<String>) actual).first();
+    }
+
+    /** Descarta todo el índice. */
+    void clear( )
+    {
+        variantes.clear();
+    }
+
+    /** Reemplaza el índice por uno con las cadenas dadas. */
+    void reconstruir( Iterable<String> cadenas )
+    {
+        variantes.clear();
+        for (String s : cadenas) agregar(s);
+    }
+}
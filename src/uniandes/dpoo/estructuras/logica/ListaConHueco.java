@@ -0,0 +1,168 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.RandomAccess;
+import java.util.function.Predicate;
+
+/**
+ * Lista sobre un arreglo con un hueco (gap buffer): los elementos están en [0, inicioHueco) y en
+ * [finHueco, elementos.length), y el hueco queda donde ocurrió la última inserción o eliminación.
+ *
+ * Insertar o eliminar en la posición p sólo corre los elementos entre el hueco y p, así que una secuencia de
+ * ediciones en la misma zona de la lista cuesta O(1) cada una, en lugar de O(n) como en ArrayList. El acceso
+ * por posición sigue siendo O(1).
+ *
+ * @param <E> Tipo de los elementos.
+ */
+public class ListaConHueco<E> extends AbstractList<E> implements RandomAccess
+{
+    /** Capacidad que se reserva la primera vez que la lista crece. */
+    private static final int CAPACIDAD_INICIAL = 16;
+
+    /** Elementos de la lista, con el hueco en [inicioHueco, finHueco). */
+    private Object[] elementos;
+
+    /** Primera posición del hueco (y cantidad de elementos antes de él). */
+    private int inicioHueco;
+
+    /** Primera posición después del hueco. */
+    private int finHueco;
+
+    /** Crea una lista vacía. */
+    public ListaConHueco( )
+    {
+        elementos = new Object[0];
+    }
+
+    @Override
+    public int size( )
+    {
+        return elementos.length - (finHueco - inicioHueco);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get( int posicion )
+    {
+        verificarPosicion(posicion, size() - 1);
+        return (E) elementos[fisica(posicion)];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E set( int posicion, E elemento )
+    {
+        verificarPosicion(posicion, size() - 1);
+        int i = fisica(posicion);
+        E anterior = (E) elementos[i];
+        elementos[i] = elemento;
+        return anterior;
+    }
+
+    @Override
+    public void add( int posicion, E elemento )
+    {
+        verificarPosicion(posicion, size());
+        if (inicioHueco == finHueco) crecer();
+        moverHueco(posicion);
+        elementos[inicioHueco++] = elemento;
+        modCount++;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E remove( int posicion )
+    {
+        verificarPosicion(posicion, size() - 1);
+        moverHueco(posicion);
+        E anterior = (E) elementos[finHueco];
+        elementos[finHueco++] = null;
+        modCount++;
+        return anterior;
+    }
+
+    @Override
+    public void clear( )
+    {
+        Arrays.fill(elementos, null);
+        inicioHueco = 0;
+        finHueco = elementos.length;
+        modCount++;
+    }
+
+    /** Elimina en una sola pasada todos los elementos que cumplen la condición. */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean removeIf( Predicate<? super E> condicion )
+    {
+        int n = size();
+        moverHueco(n); // deja los elementos contiguos en [0, n)
+        int j = 0;
+        for (int i = 0; i < n; i++)
+        {
+            Object x = elementos[i];
+            if (!condicion.test((E) x)) elementos[j++] = x;
+        }
+        if (j == n) return false;
+        Arrays.fill(elementos, j, n, null);
+        inicioHueco = j;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sort( Comparator<? super E> comparador )
+    {
+        moverHueco(size()); // deja los elementos contiguos en [0, size())
+        Arrays.sort((E[]) elementos, 0, inicioHueco, comparador);
+        modCount++;
+    }
+
+    /** Traduce una posición de la lista a una posición del arreglo. */
+    private int fisica( int posicion )
+    {
+        return posicion < inicioHueco ? posicion : posicion + (finHueco - inicioHueco);
+    }
+
+    /** Mueve el hueco para que empiece en la posición dada, corriendo sólo los elementos que quedan en medio. */
+    private void moverHueco( int posicion )
+    {
+        if (posicion < inicioHueco)
+        {
+            int k = inicioHueco - posicion;
+            System.arraycopy(elementos, posicion, elementos, finHueco - k, k);
+            Arrays.fill(elementos, posicion, Math.min(inicioHueco, finHueco - k), null);
+            inicioHueco -= k;
+            finHueco -= k;
+        }
+        else if (posicion > inicioHueco)
+        {
+            int k = posicion - inicioHueco;
+            System.arraycopy(elementos, finHueco, elementos, inicioHueco, k);
+            Arrays.fill(elementos, Math.max(finHueco, inicioHueco + k), finHueco + k, null);
+            inicioHueco += k;
+            finHueco += k;
+        }
+    }
+
+    /** Agranda el arreglo (1.5 veces) y deja todo el espacio nuevo dentro del hueco. */
+    private void crecer( )
+    {
+        int n = elementos.length;
+        int nueva = Math.max(n + (n >> 1), CAPACIDAD_INICIAL);
+        Object[] nuevos = new Object[nueva];
+        int despues = n - finHueco;
+        System.arraycopy(elementos, 0, nuevos, 0, inicioHueco);
+        System.arraycopy(elementos, finHueco, nuevos, nueva - despues, despues);
+        elementos = nuevos;
+        finHueco = nueva - despues;
+    }
+
+    private void verificarPosicion( int posicion, int maxima )
+    {
+        if (posicion < 0 || posicion > maxima) throw new IndexOutOfBoundsException("Posición: " + posicion + ", tamaño: " + size());
+    }
+}
@@ -0,0 +1,273 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * Lista de enteros que guarda los valores en un int[] en lugar de un objeto Integer por elemento.
+ * Leer y agregar al final cuestan O(1); insertar o eliminar en medio corre el resto del arreglo.
+ *
+ * Se puede usar como cualquier List&lt;Integer&gt; (esos métodos convierten entre int e Integer), pero los
+ * métodos getInt, setInt, addInt, removeIntAt y forEachInt trabajan directamente con primitivos y no crean
+ * objetos. Como ArrayList, no admite null y sus iteradores fallan rápido si la lista cambia mientras se recorre.
+ */
+public class ListaEnteros extends SecuenciaEnteros
+{
+    /** Capacidad que se reserva la primera vez que la lista crece. */
+    private static final int CAPACIDAD_INICIAL = 10;
+
+    /** Valores de la lista; sólo las posiciones [0, tamano) son válidas. */
+    private int[] elementos;
+
+    /** Cantidad de valores en la lista. */
+    private int tamano;
+
+    /** Crea una lista vacía. */
+    public ListaEnteros( )
+    {
+        elementos = new int[0];
+    }
+
+    /** Crea una lista vacía con espacio para capacidad valores. */
+    public ListaEnteros( int capacidad )
+    {
+        elementos = new int[Math.max(0, capacidad)];
+    }
+
+    @Override
+    public int size( )
+    {
+        return tamano;
+    }
+
+    /** Retorna el valor en la posición dada. */
+    @Override
+    public int getInt( int posicion )
+    {
+        verificarPosicion(posicion);
+        return elementos[posicion];
+    }
+
+    /** Cambia el valor en la posición dada y retorna el anterior. */
+    @Override
+    public int setInt( int posicion, int valor )
+    {
+        verificarPosicion(posicion);
+        int anterior = elementos[posicion];
+        elementos[posicion] = valor;
+        return anterior;
+    }
+
+    /** Agrega un valor al final. */
+    @Override
+    public void addInt( int valor )
+    {
+        if (tamano == elementos.length) ensureCapacity(tamano + 1);
+        elementos[tamano++] = valor;
+        modCount++;
+    }
+
+    /** Inserta un valor en la posición dada (entre 0 y size()), corriendo los siguientes. */
+    @Override
+    public void addInt( int posicion, int valor )
+    {
+        if (posicion < 0 || posicion > tamano) throw new IndexOutOfBoundsException("Posición: " + posicion + ", tamaño: " + tamano);
+        if (tamano == elementos.length) ensureCapacity(tamano + 1);
+        System.arraycopy(elementos, posicion, elementos, posicion + 1, tamano - posicion);
+        elementos[posicion] = valor;
+        tamano++;
+        modCount++;
+    }
+
+    /** Agrega todos los valores al final, en orden. */
+    @Override
+    public void addAll( int[] valores )
+    {
+        ensureCapacity(tamano + valores.length);
+        System.arraycopy(valores, 0, elementos, tamano, valores.length);
+        tamano += valores.length;
+        modCount++;
+    }
+
+    /** Elimina el valor en la posición dada y lo retorna. */
+    @Override
+    public int removeIntAt( int posicion )
+    {
+        verificarPosicion(posicion);
+        int anterior = elementos[posicion];
+        System.arraycopy(elementos, posicion + 1, elementos, posicion, tamano - posicion - 1);
+        tamano--;
+        modCount++;
+        return anterior;
+    }
+
+    /**
+     * Elimina todos los valores que cumplen la condición en una sola pasada, corriendo los que quedan hacia el
+     * inicio. Cuesta O(n) sin importar cuántos valores se eliminen. Retorna true si eliminó alguno.
+     */
+    @Override
+    public boolean removeIntIf( IntPredicate condicion )
+    {
+        int j = 0;
+        for (int i = 0; i < tamano; i++)
+        {
+            int x = elementos[i];
+            if (!condicion.test(x)) elementos[j++] = x;
+        }
+        if (j == tamano) return false;
+        tamano = j;
+        modCount++;
+        return true;
+    }
+
+    /** Ejecuta la acción con cada valor, en orden. */
+    @Override
+    public void forEachInt( IntConsumer accion )
+    {
+        int esperado = modCount;
+        for (int i = 0; i < tamano && modCount == esperado; i++) accion.accept(elementos[i]);
+        if (modCount != esperado) throw new ConcurrentModificationException();
+    }
+
+    /** Retorna cuántos valores cumplen la condición. */
+    @Override
+    public int countInts( IntPredicate condicion )
+    {
+        int c = 0;
+        for (int i = 0; i < tamano; i++) if (condicion.test(elementos[i])) c++;
+        return c;
+    }
+
+    /** Combina todos los valores, en orden, empezando desde inicial: f(...f(f(inicial, v0), v1)..., vn). */
+    @Override
+    public int reduceInts( int inicial, IntBinaryOperator f )
+    {
+        int acumulado = inicial;
+        for (int i = 0; i < tamano; i++) acumulado = f.applyAsInt(acumulado, elementos[i]);
+        return acumulado;
+    }
+
+    /** Reemplaza cada valor por el resultado de aplicarle f. */
+    @Override
+    public void replaceAllInts( IntUnaryOperator f )
+    {
+        for (int i = 0; i < tamano; i++) elementos[i] = f.applyAsInt(elementos[i]);
+        modCount++;
+    }
+
+    /** Indica si la lista tiene exactamente los mismos valores que el arreglo, en el mismo orden. */
+    @Override
+    public boolean equalsIntArray( int[] otro )
+    {
+        return otro != null && Arrays.equals(elementos, 0, tamano, otro, 0, otro.length);
+    }
+
+    /**
+     * Retorna un IntStream secuencial sobre los valores. Se parte en mitades exactas, así que sirve para
+     * recorridos en paralelo; la lista no debe cambiar mientras el stream se usa.
+     */
+    @Override
+    public IntStream streamInts( )
+    {
+        return Arrays.stream(elementos, 0, tamano);
+    }
+
+    /** Como replaceAllInts, pero repartiendo las posiciones en paralelo; f no debe depender del orden. */
+    @Override
+    public void parallelReplaceAllInts( IntUnaryOperator f )
+    {
+        int[] a = elementos;
+        IntStream.range(0, tamano).parallel().forEach(i -> a[i] = f.applyAsInt(a[i]));
+        modCount++;
+    }
+
+    /** Retorna la primera posición del valor, o -1 si no está. */
+    @Override
+    public int indexOfInt( int valor )
+    {
+        for (int i = 0; i < tamano; i++) if (elementos[i] == valor) return i;
+        return -1;
+    }
+
+    /** Retorna una copia de los valores como arreglo. */
+    @Override
+    public int[] toIntArray( )
+    {
+        return Arrays.copyOf(elementos, tamano);
+    }
+
+    /** Ordena la lista de menor a mayor. */
+    @Override
+    public void sortInts( )
+    {
+        Arrays.sort(elementos, 0, tamano);
+        modCount++;
+    }
+
+    /** Como sortInts, pero ordenando en paralelo (Arrays.parallelSort). */
+    @Override
+    public void parallelSortInts( )
+    {
+        Arrays.parallelSort(elementos, 0, tamano);
+        modCount++;
+    }
+
+    /**
+     * Deja en las primeras k posiciones los k mayores valores, de mayor a menor, sin ordenar el resto.
+     * Cuesta O(n) en promedio más O(k log k).
+     */
+    @Override
+    public void sortLargestFirst( int k )
+    {
+        SeleccionEnteros.ordenarMayoresAlInicio(elementos, tamano, k);
+        modCount++;
+    }
+
+    /** Invierte el orden de la lista. */
+    @Override
+    public void reverse( )
+    {
+        for (int i = 0, j = tamano - 1; i < j; i++, j--)
+        {
+            int t = elementos[i];
+            elementos[i] = elementos[j];
+            elementos[j] = t;
+        }
+        modCount++;
+    }
+
+    /** Garantiza espacio para al menos minimo valores sin volver a reservar memoria. */
+    @Override
+    public void ensureCapacity( int minimo )
+    {
+        if (minimo <= elementos.length) return;
+        int nueva = Math.max(elementos.length + (elementos.length >> 1), CAPACIDAD_INICIAL);
+        if (nueva < 0) nueva = Integer.MAX_VALUE - 8; // desbordamiento
+        elementos = Arrays.copyOf(elementos, Math.max(nueva, minimo));
+    }
+
+    @Override
+    public void clear( )
+    {
+        tamano = 0;
+        modCount++;
+    }
+
+    @Override
+    protected void cargar( int[] valores, int n )
+    {
+        elementos = valores;
+        tamano = n;
+        modCount++;
+    }
+
+    private void verificarPosicion( int posicion )
+    {
+        if (posicion < 0 || posicion >= tamano) throw new IndexOutOfBoundsException("Posición: " + posicion + ", tamaño: " + tamano);
+    }
+}
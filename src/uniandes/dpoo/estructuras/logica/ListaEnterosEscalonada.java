@@ -0,0 +1,227 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.Arrays;
+
+/**
+ * Lista de enteros guardada como un vector escalonado (tiered vector): los valores se reparten en bloques de
+ * B posiciones, cada uno un buffer circular, y todos los bloques están llenos menos el último.
+ *
+ * Leer o cambiar una posición cuesta O(1). Insertar o eliminar en medio corre a lo sumo B valores dentro de
+ * un bloque y luego pasa un solo valor entre cada par de bloques siguientes, así que cuesta O(B + n / B).
+ * B se mantiene cerca de la raíz de n (potencia de 2), lo que da O(raíz de n) por operación en lugar del O(n)
+ * de correr un arreglo. Cuando n se aleja demasiado de B² los bloques se reconstruyen con un B nuevo.
+ */
+public class ListaEnterosEscalonada extends SecuenciaEnteros
+{
+    /** Menor tamaño de bloque (log2): con listas pequeñas no tiene sentido partir más. */
+    private static final int BITS_BLOQUE_MINIMO = 4;
+
+    /** Bloques de valores; sólo los primeros bloquesEnUso tienen valores. */
+    private int[][] bloques;
+
+    /** Posición del bloque (dentro de su buffer circular) donde está su primer valor. */
+    private int[] inicios;
+
+    /** log2 del tamaño de bloque. */
+    private int bits;
+
+    /** Tamaño de bloque menos 1, para calcular posiciones circulares con un AND. */
+    private int mascara;
+
+    /** Cantidad de valores en la lista. */
+    private int tamano;
+
+    /** Crea una lista vacía. */
+    public ListaEnterosEscalonada( )
+    {
+        iniciar(BITS_BLOQUE_MINIMO, 1);
+    }
+
+    /** Reserva bloques vacíos de 2^bits posiciones. */
+    private void iniciar( int bitsBloque, int cantidadBloques )
+    {
+        bits = bitsBloque;
+        mascara = (1 << bits) - 1;
+        bloques = new int[Math.max(1, cantidadBloques)][];
+        inicios = new int[bloques.length];
+        tamano = 0;
+    }
+
+    @Override
+    public int size( )
+    {
+        return tamano;
+    }
+
+    @Override
+    public int getInt( int posicion )
+    {
+        verificarPosicion(posicion);
+        int b = posicion >>> bits;
+        return bloques[b][(inicios[b] + posicion) & mascara];
+    }
+
+    @Override
+    public int setInt( int posicion, int valor )
+    {
+        verificarPosicion(posicion);
+        int b = posicion >>> bits;
+        int i = (inicios[b] + posicion) & mascara;
+        int anterior = bloques[b][i];
+        bloques[b][i] = valor;
+        return anterior;
+    }
+
+    @Override
+    public void addInt( int posicion, int valor )
+    {
+        if (posicion < 0 || posicion > tamano) throw new IndexOutOfBoundsException("Posición: " + posicion + ", tamaño: " + tamano);
+        if (tamano >>> bits >= 2 << bits)
+        {
+            // hay el doble de bloques que posiciones por bloque: se reconstruye con bloques más grandes
+            cargar(toIntArray(), tamano);
+        }
+        int capacidad = mascara + 1;
+        int b = posicion >>> bits;
+        int ultimo = tamano >>> bits; // bloque que queda con el nuevo último valor
+        asegurarBloque(ultimo);
+
+        // cada bloque lleno entre b y ultimo le pasa su último valor al inicio del siguiente
+        for (int k = ultimo; k > b; k--)
+        {
+            int anterior = k - 1;
+            int movido = bloques[anterior][(inicios[anterior] + capacidad - 1) & mascara];
+            inicios[k] = (inicios[k] - 1) & mascara;
+            bloques[k][inicios[k]] = movido;
+        }
+
+        int enBloque = b == ultimo ? tamano - (b << bits) : capacidad - 1;
+        insertarEnBloque(b, posicion & mascara, enBloque, valor);
+        tamano++;
+        modCount++;
+    }
+
+    @Override
+    public int removeIntAt( int posicion )
+    {
+        verificarPosicion(posicion);
+        int capacidad = mascara + 1;
+        int b = posicion >>> bits;
+        int ultimo = (tamano - 1) >>> bits;
+        int enBloque = b == ultimo ? tamano - (b << bits) : capacidad;
+        int eliminado = eliminarDeBloque(b, posicion & mascara, enBloque);
+
+        // cada bloque siguiente le pasa su primer valor al final del anterior
+        for (int k = b + 1; k <= ultimo; k++)
+        {
+            int movido = bloques[k][inicios[k]];
+            inicios[k] = (inicios[k] + 1) & mascara;
+            int anterior = k - 1;
+            bloques[anterior][(inicios[anterior] + capacidad - 1) & mascara] = movido;
+        }
+        tamano--;
+        modCount++;
+
+        if (bits > BITS_BLOQUE_MINIMO && (long) tamano * 8 < (long) capacidad * capacidad)
+        {
+            // quedan muy pocos valores para bloques de este tamaño
+            cargar(toIntArray(), tamano);
+        }
+        return eliminado;
+    }
+
+    /** Inserta valor en la posición relativa i de un bloque con enBloque valores, corriendo el lado más corto. */
+    private void insertarEnBloque( int b, int i, int enBloque, int valor )
+    {
+        int[] bloque = bloques[b];
+        int inicio = inicios[b];
+        if (i < enBloque - i)
+        {
+            inicio = (inicio - 1) & mascara;
+            for (int k = 0; k < i; k++) bloque[(inicio + k) & mascara] = bloque[(inicio + k + 1) & mascara];
+            inicios[b] = inicio;
+        }
+        else
+        {
+            for (int k = enBloque; k > i; k--) bloque[(inicio + k) & mascara] = bloque[(inicio + k - 1) & mascara];
+        }
+        bloque[(inicio + i) & mascara] = valor;
+    }
+
+    /** Quita el valor en la posición relativa i de un bloque con enBloque valores, corriendo el lado más corto. */
+    private int eliminarDeBloque( int b, int i, int enBloque )
+    {
+        int[] bloque = bloques[b];
+        int inicio = inicios[b];
+        int eliminado = bloque[(inicio + i) & mascara];
+        if (i < enBloque - 1 - i)
+        {
+            for (int k = i; k > 0; k--) bloque[(inicio + k) & mascara] = bloque[(inicio + k - 1) & mascara];
+            inicios[b] = (inicio + 1) & mascara;
+        }
+        else
+        {
+            for (int k = i; k < enBloque - 1; k++) bloque[(inicio + k) & mascara] = bloque[(inicio + k + 1) & mascara];
+        }
+        return eliminado;
+    }
+
+    /** Garantiza que exista el bloque b. */
+    private void asegurarBloque( int b )
+    {
+        if (b >= bloques.length)
+        {
+            int nueva = Math.max(b + 1, bloques.length * 2);
+            bloques = Arrays.copyOf(bloques, nueva);
+            inicios = Arrays.copyOf(inicios, nueva);
+        }
+        if (bloques[b] == null) bloques[b] = new int[mascara + 1];
+    }
+
+    @Override
+    public void clear( )
+    {
+        iniciar(BITS_BLOQUE_MINIMO, 1);
+        modCount++;
+    }
+
+    @Override
+    protected void cargar( int[] valores, int n )
+    {
+        // el menor B potencia de 2 con B² >= n
+        int b = BITS_BLOQUE_MINIMO;
+        while (b < 30 && (1L << (2 * b)) < n) b++;
+        int capacidad = 1 << b;
+        int cantidadBloques = (n + capacidad - 1) >>> b;
+        iniciar(b, cantidadBloques);
+        for (int k = 0; k < cantidadBloques; k++)
+        {
+            int desde = k << b;
+            bloques[k] = new int[capacidad];
+            System.arraycopy(valores, desde, bloques[k], 0, Math.min(capacidad, n - desde));
+        }
+        tamano = n;
+        modCount++;
+    }
+
+    @Override
+    public int[] toIntArray( )
+    {
+        int[] a = new int[tamano];
+        int capacidad = mascara + 1;
+        for (int k = 0, desde = 0; desde < tamano; k++, desde += capacidad)
+        {
+            int cuantos = Math.min(capacidad, tamano - desde);
+            // el buffer circular se copia en a lo sumo dos tramos
+            int primerTramo = Math.min(cuantos, capacidad - inicios[k]);
+            System.arraycopy(bloques[k], inicios[k], a, desde, primerTramo);
+            System.arraycopy(bloques[k], 0, a, desde + primerTramo, cuantos - primerTramo);
+        }
+        return a;
+    }
+
+    private void verificarPosicion( int posicion )
+    {
+        if (posicion < 0 || posicion >= tamano) throw new IndexOutOfBoundsException("Posición: " + posicion + ", tamaño: " + tamano);
+    }
+}
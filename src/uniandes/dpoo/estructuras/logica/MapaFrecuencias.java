@@ -0,0 +1,221 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * Tabla de frecuencias entero → cantidad con llaves y valores primitivos.
+ *
+ * Usa direccionamiento abierto con sondeo lineal sobre dos arreglos paralelos (llaves y frecuencias), así que
+ * contar un valor no crea objetos. Una casilla está libre cuando su frecuencia es 0: toda llave presente tiene
+ * frecuencia de al menos 1.
+ */
+public class MapaFrecuencias
+{
+    /** Capacidad mínima de la tabla (siempre es potencia de 2). */
+    private static final int CAPACIDAD_MINIMA = 16;
+
+    /** Llave guardada en cada casilla. */
+    private int[] llaves;
+
+    /** Frecuencia de la llave de cada casilla, o 0 si la casilla está libre. */
+    private int[] frecuencias;
+
+    /** Cantidad de llaves distintas guardadas. */
+    private int cantidad;
+
+    /** Crea una tabla vacía. */
+    public MapaFrecuencias( )
+    {
+        this(0);
+    }
+
+    /** Crea una tabla vacía que puede recibir cantidadEsperada llaves distintas sin crecer. */
+    public MapaFrecuencias( int cantidadEsperada )
+    {
+        int capacidad = CAPACIDAD_MINIMA;
+        while (capacidad < Integer.MAX_VALUE / 2 && capacidad * 3L < cantidadEsperada * 4L) capacidad <<= 1;
+        llaves = new int[capacidad];
+        frecuencias = new int[capacidad];
+    }
+
+    /** Crea la tabla de frecuencias de las primeras n posiciones del arreglo. */
+    public static MapaFrecuencias contar( int[] valores, int n )
+    {
+        MapaFrecuencias mapa = new MapaFrecuencias();
+        for (int i = 0; i < n; i++) mapa.incrementar(valores[i]);
+        return mapa;
+    }
+
+    /** Cantidad de llaves distintas. */
+    public int size( )
+    {
+        return cantidad;
+    }
+
+    /** Indica si la tabla no tiene llaves. */
+    public boolean isEmpty( )
+    {
+        return cantidad == 0;
+    }
+
+    /** Retorna la frecuencia de la llave, o 0 si no está. */
+    public int get( int llave )
+    {
+        int mascara = llaves.length - 1;
+        for (int i = posicionInicial(llave, mascara); frecuencias[i] != 0; i = (i + 1) & mascara)
+            if (llaves[i] == llave) return frecuencias[i];
+        return 0;
+    }
+
+    /** Suma 1 a la frecuencia de la llave y retorna la nueva frecuencia. */
+    public int incrementar( int llave )
+    {
+        return sumar(llave, 1);
+    }
+
+    /** Suma veces (que debe ser positivo) a la frecuencia de la llave y retorna la nueva frecuencia. */
+    public int sumar( int llave, int veces )
+    {
+        int mascara = llaves.length - 1;
+        int i = posicionInicial(llave, mascara);
+        while (frecuencias[i] != 0)
+        {
+            if (llaves[i] == llave) return frecuencias[i] += veces;
+            i = (i + 1) & mascara;
+        }
+        llaves[i] = llave;
+        frecuencias[i] = veces;
+        if (++cantidad * 4L >= llaves.length * 3L) crecer();
+        return veces;
+    }
+
+    /**
+     * Resta 1 a la frecuencia de la llave y retorna la nueva frecuencia; la llave sale de la tabla al llegar a 0.
+     * Si la llave no estaba retorna -1 y la tabla no cambia.
+     */
+    public int decrementar( int llave )
+    {
+        int mascara = llaves.length - 1;
+        for (int i = posicionInicial(llave, mascara); frecuencias[i] != 0; i = (i + 1) & mascara)
+        {
+            if (llaves[i] != llave) continue;
+            int f = --frecuencias[i];
+            if (f == 0)
+            {
+                cantidad--;
+                cerrarHueco(i);
+            }
+            return f;
+        }
+        return -1;
+    }
+
+    /**
+     * Quita la llave de la tabla y retorna la frecuencia que tenía (0 si no estaba).
+     */
+    public int eliminar( int llave )
+    {
+        int mascara = llaves.length - 1;
+        for (int i = posicionInicial(llave, mascara); frecuencias[i] != 0; i = (i + 1) & mascara)
+        {
+            if (llaves[i] != llave) continue;
+            int f = frecuencias[i];
+            frecuencias[i] = 0;
+            cantidad--;
+            cerrarHueco(i);
+            return f;
+        }
+        return 0;
+    }
+
+    /** Suma a esta tabla todas las frecuencias de la otra. */
+    public void sumarTodo( MapaFrecuencias otra )
+    {
+        for (int i = 0; i < otra.llaves.length; i++)
+            if (otra.frecuencias[i] != 0) sumar(otra.llaves[i], otra.frecuencias[i]);
+    }
+
+    /** Cuenta cuántas llaves tienen frecuencia mayor o igual a minimo. */
+    public int contarConFrecuenciaMinima( int minimo )
+    {
+        int c = 0;
+        for (int f : frecuencias) if (f != 0 && f >= minimo) c++;
+        return c;
+    }
+
+    /** Recorre cada pareja (llave, frecuencia), sin un orden particular. */
+    public void forEach( ConsumidorFrecuencia accion )
+    {
+        for (int i = 0; i < llaves.length; i++)
+            if (frecuencias[i] != 0) accion.aceptar(llaves[i], frecuencias[i]);
+    }
+
+    /** Retorna una copia de la tabla como HashMap, para quien necesite la interfaz de Map. */
+    public HashMap<Integer, Integer> comoHashMap( )
+    {
+        HashMap<Integer, Integer> h = new HashMap<>(Math.max(16, (int) (cantidad / 0.75f) + 1));
+        forEach(( llave, frecuencia ) -> h.put(llave, frecuencia));
+        return h;
+    }
+
+    /** Vacía la tabla conservando su capacidad. */
+    public void clear( )
+    {
+        Arrays.fill(frecuencias, 0);
+        cantidad = 0;
+    }
+
+    /**
+     * Después de liberar la casilla hueco, corre hacia atrás las llaves siguientes del mismo racimo que quedarían
+     * inalcanzables (borrado sin lápidas del sondeo lineal).
+     */
+    private void cerrarHueco( int hueco )
+    {
+        int mascara = llaves.length - 1;
+        for (int i = (hueco + 1) & mascara; frecuencias[i] != 0; i = (i + 1) & mascara)
+        {
+            int ideal = posicionInicial(llaves[i], mascara);
+            // la llave puede ocupar el hueco si este queda entre su casilla ideal y su casilla actual
+            if (((i - ideal) & mascara) >= ((i - hueco) & mascara))
+            {
+                llaves[hueco] = llaves[i];
+                frecuencias[hueco] = frecuencias[i];
+                frecuencias[i] = 0;
+                hueco = i;
+            }
+        }
+    }
+
+    /** Duplica la capacidad y reubica todas las llaves. */
+    private void crecer( )
+    {
+        int[] viejasLlaves = llaves;
+        int[] viejasFrecuencias = frecuencias;
+        llaves = new int[viejasLlaves.length * 2];
+        frecuencias = new int[viejasLlaves.length * 2];
+        int mascara = llaves.length - 1;
+        for (int j = 0; j < viejasLlaves.length; j++)
+        {
+            if (viejasFrecuencias[j] == 0) continue;
+            int i = posicionInicial(viejasLlaves[j], mascara);
+            while (frecuencias[i] != 0) i = (i + 1) & mascara;
+            llaves[i] = viejasLlaves[j];
+            frecuencias[i] = viejasFrecuencias[j];
+        }
+    }
+
+    /** Dispersa la llave (multiplicación de Fibonacci) para que valores consecutivos no formen racimos. */
+    private static int posicionInicial( int llave, int mascara )
+    {
+        int h = llave * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mascara;
+    }
+
+    /** Acción que recibe una llave y su frecuencia como primitivos. */
+    @FunctionalInterface
+    public interface ConsumidorFrecuencia
+    {
+        void aceptar( int llave, int frecuencia );
+    }
+}
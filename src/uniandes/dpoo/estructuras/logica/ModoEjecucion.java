@@ -0,0 +1,22 @@
+package uniandes.dpoo.estructuras.logica;
+
+/**
+ * Forma en la que los sandboxes ejecutan los recorridos costosos sobre sus enteros.
+ */
+public enum ModoEjecucion
+{
+    /** Todo se recorre en el hilo que hace el llamado. */
+    SECUENCIAL,
+
+    /**
+     * Los recorridos se reparten en pedazos sobre un ForkJoinPool y los resultados parciales se combinan.
+     * Por debajo del umbral configurado se usa el camino secuencial, porque repartir no compensa.
+     */
+    PARALELO,
+
+    /**
+     * Como PARALELO, pero además sólo reparte si el pool tiene más de un hilo de trabajo; en una máquina (o un
+     * pool) de un solo núcleo se queda siempre en el camino secuencial.
+     */
+    AUTOMATICO
+}
@@ -0,0 +1,147 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Quicksort de múltiples llaves (Bentley-Sedgewick) para cadenas: ordena por el carácter en la posición d,
+ * partiendo en menores, iguales y mayores, y sólo avanza a d + 1 dentro del grupo de iguales.
+ * Así los prefijos comunes se recorren una sola vez en lugar de compararse de nuevo en cada compareTo.
+ *
+ * El orden resultante es el mismo de String.compareTo (por valor de cada char).
+ */
+final class OrdenamientoCadenas
+{
+    /** Tamaño por debajo del cual se usa ordenamiento por inserción. */
+    private static final int LIMITE_INSERCION = 16;
+
+    private OrdenamientoCadenas( )
+    {
+    }
+
+    /** Ordena a[0, n) en el hilo actual. */
+    static void ordenar( String[] a, int n )
+    {
+        ordenar(a, 0, n, 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Ordena a[0, n) sobre el pool: los grupos de menores y mayores de cada partición con más de umbral
+     * cadenas se reparten como tareas independientes.
+     */
+    static void ordenarEnParalelo( ForkJoinPool pool, String[] a, int n, int umbral )
+    {
+        pool.invoke(new TareaOrdenamiento(a, 0, n, 0, umbral));
+    }
+
+    /** Ordena a[lo, hi), sabiendo que todas las cadenas del rango coinciden en sus primeros d caracteres. */
+    private static void ordenar( String[] a, int lo, int hi, int d, int umbral )
+    {
+        while (hi - lo > LIMITE_INSERCION)
+        {
+            intercambiar(a, lo, medianaDeTres(a, lo, lo + ((hi - lo) >>> 1), hi - 1, d));
+            int pivote = caracter(a[lo], d);
+            int lt = lo, gt = hi - 1, i = lo + 1;
+            while (i <= gt)
+            {
+                int c = caracter(a[i], d);
+                if (c < pivote) intercambiar(a, lt++, i++);
+                else if (c > pivote) intercambiar(a, i, gt--);
+                else i++;
+            }
+            // a[lo, lt) < pivote, a[lt, gt] == pivote, a(gt, hi) > pivote
+
+            if (hi - lo > umbral && ForkJoinTask.inForkJoinPool())
+            {
+                ForkJoinTask<Void> menores = new TareaOrdenamiento(a, lo, lt, d, umbral).fork();
+                ForkJoinTask<Void> mayores = new TareaOrdenamiento(a, gt + 1, hi, d, umbral).fork();
+                if (pivote >= 0) ordenar(a, lt, gt + 1, d + 1, umbral);
+                menores.join();
+                mayores.join();
+                return;
+            }
+            ordenar(a, lo, lt, d, umbral);
+            ordenar(a, gt + 1, hi, d, umbral);
+            if (pivote < 0) return; // todas las iguales terminaron: ya están en orden
+            lo = lt;
+            hi = gt + 1;
+            d++;
+        }
+        insercion(a, lo, hi, d);
+    }
+
+    /** Ordenamiento por inserción comparando desde el carácter d. */
+    private static void insercion( String[] a, int lo, int hi, int d )
+    {
+        for (int i = lo + 1; i < hi; i++)
+        {
+            String x = a[i];
+            int j = i;
+            while (j > lo && comparar(x, a[j - 1], d) < 0)
+            {
+                a[j] = a[j - 1];
+                j--;
+            }
+            a[j] = x;
+        }
+    }
+
+    /** Compara dos cadenas que coinciden en sus primeros d caracteres. */
+    private static int comparar( String x, String y, int d )
+    {
+        int n = Math.min(x.length(), y.length());
+        for (int k = d; k < n; k++)
+        {
+            int c = x.charAt(k) - y.charAt(k);
+            if (c != 0) return c;
+        }
+        return x.length() - y.length();
+    }
+
+    /** Retorna la posición (entre i, j y k) de la cadena con el carácter d mediano. */
+    private static int medianaDeTres( String[] a, int i, int j, int k, int d )
+    {
+        int ci = caracter(a[i], d), cj = caracter(a[j], d), ck = caracter(a[k], d);
+        if (ci < cj) return cj < ck ? j : (ci < ck ? k : i);
+        return ci < ck ? i : (cj < ck ? k : j);
+    }
+
+    /** Carácter d de la cadena, o -1 si la cadena es más corta (así las cadenas cortas van primero). */
+    private static int caracter( String s, int d )
+    {
+        return d < s.length() ? s.charAt(d) : -1;
+    }
+
+    private static void intercambiar( String[] a, int i, int j )
+    {
+        String t = a[i];
+        a[i] = a[j];
+        a[j] = t;
+    }
+
+    /** Ordena un rango como tarea independiente del pool. */
+    private static final class TareaOrdenamiento extends RecursiveAction
+    {
+        private final String[] a;
+        private final int lo;
+        private final int hi;
+        private final int d;
+        private final int umbral;
+
+        TareaOrdenamiento( String[] a, int lo, int hi, int d, int umbral )
+        {
+            this.a = a;
+            this.lo = lo;
+            this.hi = hi;
+            this.d = d;
+            this.umbral = umbral;
+        }
+
+        @Override
+        protected void compute( )
+        {
+            ordenar(a, lo, hi, d, umbral);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.Arrays;
+
+/**
+ * Ordenamientos de enteros que no comparan elementos, para arreglos con rango acotado o muy grandes.
+ * Ambos ordenan ascendentemente las primeras n posiciones del arreglo, en el sitio.
+ */
+final class OrdenamientoEnteros
+{
+    /** Bits que procesa cada pasada del radix (4 pasadas para un int). */
+    private static final int BITS_POR_PASADA = 8;
+
+    /** Cantidad de cubetas por pasada del radix. */
+    private static final int CUBETAS = 1 << BITS_POR_PASADA;
+
+    private OrdenamientoEnteros( )
+    {
+    }
+
+    /**
+     * Ordenamiento por conteo: O(n + rango) en tiempo y un arreglo auxiliar de (maximo - minimo + 1) contadores.
+     * Todos los valores de a[0, n) deben estar en [minimo, maximo].
+     */
+    static void ordenarPorConteo( int[] a, int n, int minimo, int maximo )
+    {
+        int[] conteos = new int[maximo - minimo + 1];
+        for (int i = 0; i < n; i++) conteos[a[i] - minimo]++;
+        int j = 0;
+        for (int v = 0; v < conteos.length; v++)
+        {
+            int valor = minimo + v;
+            for (int c = conteos[v]; c > 0; c--) a[j++] = valor;
+        }
+    }
+
+    /**
+     * Radix LSD de 8 bits por pasada: O(n) por pasada y un arreglo auxiliar de n enteros.
+     * El bit de signo se invierte en la última pasada para que los negativos queden antes que los positivos.
+     * Las pasadas en las que todos los valores caen en la misma cubeta se saltan.
+     */
+    static void ordenarPorRadix( int[] a, int n )
+    {
+        int[] origen = a;
+        int[] destino = new int[n];
+        int[] conteos = new int[CUBETAS];
+        for (int desplazamiento = 0; desplazamiento < Integer.SIZE; desplazamiento += BITS_POR_PASADA)
+        {
+            int signo = desplazamiento + BITS_POR_PASADA == Integer.SIZE ? CUBETAS >>> 1 : 0;
+            Arrays.fill(conteos, 0);
+            for (int i = 0; i < n; i++) conteos[((origen[i] >>> desplazamiento) & (CUBETAS - 1)) ^ signo]++;
+            if (conteos[((origen[0] >>> desplazamiento) & (CUBETAS - 1)) ^ signo] == n) continue;
+
+            int suma = 0;
+            for (int b = 0; b < CUBETAS; b++)
+            {
+                int c = conteos[b];
+                conteos[b] = suma;
+                suma += c;
+            }
+            for (int i = 0; i < n; i++)
+            {
+                int x = origen[i];
+                destino[conteos[((x >>> desplazamiento) & (CUBETAS - 1)) ^ signo]++] = x;
+            }
+            int[] t = origen;
+            origen = destino;
+            destino = t;
+        }
+        if (origen != a) System.arraycopy(origen, 0, a, 0, n);
+    }
+}
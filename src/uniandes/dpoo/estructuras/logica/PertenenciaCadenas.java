@@ -0,0 +1,108 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Verifica cuáles cadenas de un arreglo están en un conjunto ordenado (en orden natural).
+ *
+ * Con pocas cadenas se busca cada una en el conjunto, O(m log n). Cuando son muchas respecto al conjunto se
+ * ordena una copia del arreglo y se recorren ambos a la vez, como en la mezcla de mergesort: O(m log m + n)
+ * con un recorrido secuencial del conjunto en lugar de m descensos por el árbol. Con arreglos muy grandes el
+ * ordenamiento (o las búsquedas, si no se ordena) se hace en paralelo. El conjunto no debe cambiar mientras
+ * tanto. El arreglo no puede tener null.
+ */
+final class PertenenciaCadenas
+{
+    /** Menor cantidad de cadenas con la que se considera ordenar y mezclar. */
+    private static final int MINIMO_MEZCLA = 1024;
+
+    /** Se mezcla cuando las cadenas son al menos 1 / FRACCION_MEZCLA del tamaño del conjunto. */
+    private static final int FRACCION_MEZCLA = 4;
+
+    /** Desde esta cantidad de cadenas se ordena o se busca en paralelo. */
+    private static final int UMBRAL_PARALELO = 1 << 16;
+
+    private PertenenciaCadenas( )
+    {
+    }
+
+    /** Indica si conviene recorrer el conjunto de tamaño n en lugar de buscar m cadenas una por una. */
+    private static boolean convieneMezclar( int m, int n )
+    {
+        return m >= MINIMO_MEZCLA && (long) m * FRACCION_MEZCLA >= n;
+    }
+
+    /** Indica si todas las cadenas están en el conjunto. */
+    static boolean contieneTodas( NavigableSet<String> conjunto, String[] cadenas )
+    {
+        if (convieneMezclar(cadenas.length, conjunto.size())) return recorrer(conjunto, ordenadas(cadenas), null, true) >= 0;
+
+        for (String s : cadenas) Objects.requireNonNull(s);
+        if (cadenas.length >= UMBRAL_PARALELO) return Arrays.stream(cadenas).parallel().allMatch(conjunto::contains);
+        for (String s : cadenas)
+        {
+            if (!conjunto.contains(s)) return false;
+        }
+        return true;
+    }
+
+    /** Retorna cuántas cadenas distintas del arreglo están en el conjunto. */
+    static int contarComunes( NavigableSet<String> conjunto, String[] cadenas )
+    {
+        return recorrer(conjunto, ordenadas(cadenas), null, false);
+    }
+
+    /** Agrega a faltantes, en orden natural y sin repetidos, las cadenas del arreglo que no están en el conjunto. */
+    static void agregarFaltantes( NavigableSet<String> conjunto, String[] cadenas, List<String> faltantes )
+    {
+        recorrer(conjunto, ordenadas(cadenas), faltantes, false);
+    }
+
+    /**
+     * Recorre las cadenas ordenadas (saltando las repetidas), buscándolas una por una o avanzando a la par en el
+     * conjunto según convenga. Retorna cuántas están, o -1 si pararEnFaltante y alguna no está.
+     */
+    private static int recorrer( NavigableSet<String> conjunto, String[] a, List<String> faltantes, boolean pararEnFaltante )
+    {
+        boolean mezclar = convieneMezclar(a.length, conjunto.size());
+        Iterator<String> it = conjunto.iterator();
+        String actual = mezclar && it.hasNext() ? it.next() : null;
+        int comunes = 0;
+        for (int i = 0; i < a.length; i++)
+        {
+            String s = a[i];
+            if (i > 0 && s.equals(a[i - 1])) continue;
+
+            boolean esta;
+            if (mezclar)
+            {
+                while (actual != null && actual.compareTo(s) < 0) actual = it.hasNext() ? it.next() : null;
+                esta = s.equals(actual);
+            }
+            else
+            {
+                esta = conjunto.contains(s);
+            }
+
+            if (esta) comunes++;
+            else if (pararEnFaltante) return -1;
+            else if (faltantes != null) faltantes.add(s);
+        }
+        return comunes;
+    }
+
+    /** Retorna una copia ordenada de las cadenas (en paralelo si son muchas). */
+    private static String[] ordenadas( String[] cadenas )
+    {
+        String[] a = cadenas.clone();
+        for (String s : a) Objects.requireNonNull(s);
+        if (a.length >= UMBRAL_PARALELO) OrdenamientoCadenas.ordenarEnParalelo(ForkJoinPool.commonPool(), a, a.length, UMBRAL_PARALELO);
+        else OrdenamientoCadenas.ordenar(a, a.length);
+        return a;
+    }
+}
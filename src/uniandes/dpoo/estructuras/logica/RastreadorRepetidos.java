@@ -0,0 +1,60 @@
+package uniandes.dpoo.estructuras.logica;
+
+/**
+ * Lleva la frecuencia de cada entero de una colección y cuántos valores distintos aparecen más de una vez,
+ * actualizándolos en cada cambio para que consultar los repetidos cueste O(1).
+ *
+ * Los sandboxes lo usan en modo de conteo incremental: cada método que agrega o quita enteros le avisa, y los
+ * que reemplazan todo el contenido lo reconstruyen, lo cual no empeora su costo porque ya eran O(n).
+ */
+final class RastreadorRepetidos
+{
+    /** Frecuencia de cada valor presente. */
+    private MapaFrecuencias frecuencias;
+
+    /** Cantidad de valores con frecuencia >= 2. */
+    private int repetidos;
+
+    /** Crea el rastreador con los primeros n valores del arreglo. */
+    RastreadorRepetidos( int[] valores, int n )
+    {
+        reconstruir(valores, n);
+    }
+
+    /** Descarta lo que se llevaba y vuelve a contar los primeros n valores del arreglo. */
+    void reconstruir( int[] valores, int n )
+    {
+        frecuencias = MapaFrecuencias.contar(valores, n);
+        repetidos = frecuencias.contarConFrecuenciaMinima(2);
+    }
+
+    /** Registra una aparición más del valor. */
+    void agregar( int valor )
+    {
+        if (frecuencias.incrementar(valor) == 2) repetidos++;
+    }
+
+    /** Registra que se quitó una aparición del valor. */
+    void quitar( int valor )
+    {
+        if (frecuencias.decrementar(valor) == 1) repetidos--;
+    }
+
+    /** Registra que se quitaron todas las apariciones del valor. */
+    void quitarTodos( int valor )
+    {
+        if (frecuencias.eliminar(valor) >= 2) repetidos--;
+    }
+
+    /** Retorna la frecuencia actual del valor. */
+    int getFrecuencia( int valor )
+    {
+        return frecuencias.get(valor);
+    }
+
+    /** Retorna cuántos valores distintos aparecen más de una vez. */
+    int getRepetidos( )
+    {
+        return repetidos;
+    }
+}
@@ -2,37 +2,74 @@ package uniandes.dpoo.estructuras.logica;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.NavigableSet;
 import java.util.TreeSet;
 import java.util.Collections;
 
 /**
- * Métodos sobre conjuntos (TreeSet) usando únicamente la interfaz NavigableSet.
+ * Métodos sobre conjuntos usando únicamente la interfaz NavigableSet. El conjunto es un TreeSet o, si se
+ * escoge TipoConjuntoCadenas.ARREGLO_ORDENADO, un ConjuntoCadenasOrdenado.
+ *
+ * Además del árbol se mantiene indiceSinMayusculas, que agrupa las cadenas por su forma sin mayúsculas ni
+ * minúsculas; todos los métodos que modifican arbolCadenas lo actualizan.
+ *
+ * Los métodos getVista... retornan vistas de sólo lectura del árbol, que no copian nada y se recorren a medida
+ * que se leen; para eso arbolCadenas es siempre el mismo objeto y se modifica en su lugar.
  */
 public class SandboxConjuntos
 {
     /** Conjunto ordenado lexicográficamente. */
     private NavigableSet<String> arbolCadenas;
 
+    /** Índice de arbolCadenas para buscar y eliminar ignorando mayúsculas sin recorrer el árbol. */
+    private IndiceSinMayusculas indiceSinMayusculas;
+
     /** Constructor: conjunto vacío. */
     public SandboxConjuntos( )
     {
-        arbolCadenas = new TreeSet<String>( );
+        this( TipoConjuntoCadenas.ARBOL );
+    }
+
+    /** Constructor: conjunto vacío en la implementación indicada (null equivale a ARBOL). */
+    public SandboxConjuntos( TipoConjuntoCadenas tipo )
+    {
+        arbolCadenas = crearConjuntoCadenas( tipo );
+        indiceSinMayusculas = new IndiceSinMayusculas( );
+    }
+
+    /** Crea un conjunto de cadenas vacío del tipo indicado. */
+    private static NavigableSet<String> crearConjuntoCadenas( TipoConjuntoCadenas tipo )
+    {
+        if (tipo == TipoConjuntoCadenas.ARREGLO_ORDENADO) return new ConjuntoCadenasOrdenado( );
+        return new TreeSet<String>( );
     }
 
-    /** Retorna las cadenas como lista (orden natural ascendente). */
+    /** Retorna una copia de las cadenas como lista (orden natural ascendente); getVistaCadenas no copia. */
     public List<String> getCadenasComoLista( )
     {
         return new ArrayList<>(arbolCadenas);
     }
 
-    /** Retorna las cadenas como lista pero de mayor a menor. */
+    /** Retorna una copia de las cadenas como lista pero de mayor a menor; getVistaCadenasInvertida no copia. */
     public List<String> getCadenasComoListaInvertida( )
     {
         return new ArrayList<>(arbolCadenas.descendingSet());
     }
 
+    /** Vista de sólo lectura de las cadenas en orden ascendente, sin copia: refleja los cambios del conjunto. */
+    public NavigableSet<String> getVistaCadenas( )
+    {
+        return Collections.unmodifiableNavigableSet(arbolCadenas);
+    }
+
+    /** Vista de sólo lectura de las cadenas de mayor a menor, sin copia (descendingSet del árbol). */
+    public NavigableSet<String> getVistaCadenasInvertida( )
+    {
+        return Collections.unmodifiableNavigableSet(arbolCadenas.descendingSet());
+    }
+
     /** Menor cadena (o null si vacío). */
     public String getPrimera( )
     {
@@ -55,6 +92,39 @@ public class SandboxConjuntos
         return new ArrayList<>(arbolCadenas.tailSet(cadena, true));
     }
 
+    /** Vista de sólo lectura de las cadenas >= a la recibida, sin copia (tailSet del árbol). */
+    public NavigableSet<String> getVistaSiguientes( String cadena )
+    {
+        return Collections.unmodifiableNavigableSet(arbolCadenas.tailSet(cadena, true));
+    }
+
+    /**
+     * Página de getSiguientes: a lo sumo limite cadenas >= a la recibida, en orden. Sólo recorre las cadenas que
+     * retorna, así que no depende del tamaño del conjunto. Para la página siguiente se usa getDespuesDe con la
+     * última cadena recibida.
+     */
+    public List<String> getSiguientes( String cadena, int limite )
+    {
+        if (arbolCadenas.isEmpty()) return new ArrayList<>();
+        return primeras(arbolCadenas.tailSet(cadena, true), limite);
+    }
+
+    /** Como getSiguientes( cadena, limite ), pero sin incluir la cadena recibida. */
+    public List<String> getDespuesDe( String cadena, int limite )
+    {
+        if (arbolCadenas.isEmpty()) return new ArrayList<>();
+        return primeras(arbolCadenas.tailSet(cadena, false), limite);
+    }
+
+    /** Copia las primeras limite cadenas del conjunto dado. */
+    private static List<String> primeras( NavigableSet<String> cadenas, int limite )
+    {
+        if (limite < 0) throw new IllegalArgumentException("Límite negativo: " + limite);
+        List<String> pagina = new ArrayList<>(Math.min(limite, 1024));
+        for (Iterator<String> it = cadenas.iterator(); pagina.size() < limite && it.hasNext(); ) pagina.add(it.next());
+        return pagina;
+    }
+
     /** Cantidad de cadenas en el conjunto. */
     public int getCantidadCadenas( )
     {
@@ -64,73 +134,104 @@ public class SandboxConjuntos
     /** Agrega una cadena (si no existe). */
     public void agregarCadena( String cadena )
     {
-        arbolCadenas.add(cadena);
+        if (arbolCadenas.add(cadena)) indiceSinMayusculas.agregar(cadena);
     }
 
     /** Elimina exactamente la cadena dada (case sensitive). */
     public void eliminarCadena( String cadena )
     {
-        arbolCadenas.remove(cadena);
+        if (arbolCadenas.remove(cadena)) indiceSinMayusculas.quitar(cadena);
     }
 
-    /** Elimina la cadena ignorando mayúsculas/minúsculas. */
+    /**
+     * Elimina la cadena ignorando mayúsculas/minúsculas. Si hay varias, elimina la menor en orden natural.
+     * Usa el índice: O(log n) en lugar de recorrer el conjunto.
+     */
     public void eliminarCadenaSinMayusculasOMinusculas( String cadena )
     {
-        if (cadena == null || arbolCadenas.isEmpty()) return;
-        // Buscar la que sea equalsIgnoreCase y removerla.
-        String toDelete = null;
-        for (String s : arbolCadenas)
-        {
-            if (s.equalsIgnoreCase(cadena))
-            {
-                toDelete = s;
-                break;
-            }
-        }
-        if (toDelete != null) arbolCadenas.remove(toDelete);
+        if (cadena == null) return;
+        String aEliminar = indiceSinMayusculas.menorVariante(cadena);
+        if (aEliminar == null) return;
+        arbolCadenas.remove(aEliminar);
+        indiceSinMayusculas.quitar(aEliminar);
+    }
+
+    /** Indica si el conjunto tiene una cadena igual a la dada ignorando mayúsculas/minúsculas, en O(1) esperado. */
+    public boolean contieneCadenaSinMayusculasOMinusculas( String cadena )
+    {
+        return cadena != null && indiceSinMayusculas.menorVariante(cadena) != null;
     }
 
     /** Elimina la primera cadena (si existe). */
     public void eliminarPrimera( )
     {
-        if (!arbolCadenas.isEmpty()) arbolCadenas.pollFirst();
+        if (!arbolCadenas.isEmpty()) indiceSinMayusculas.quitar(arbolCadenas.pollFirst());
     }
 
-    /** Reinicia el conjunto con toString() de cada objeto de la lista. */
+    /**
+     * Reinicia el conjunto con toString() de cada objeto de la lista.
+     * Las cadenas se ordenan y se les quitan los repetidos en un arreglo, y el árbol se arma de una vez desde
+     * esa secuencia en O(n) (ver CadenasOrdenadas), o se copia el arreglo de una vez si el conjunto es un
+     * ConjuntoCadenasOrdenado; si la lista ya viene ordenada no se ordena de nuevo.
+     */
     public void reiniciarConjuntoCadenas( List<Object> objetos )
     {
-        arbolCadenas.clear();
-        if (objetos == null) return;
-        for (Object o : objetos) arbolCadenas.add(String.valueOf(o));
+        cargarCadenas(objetos == null ? Collections.emptyList() : objetos);
     }
 
     /**
      * Convierte todas las cadenas a MAYÚSCULAS.
-     * (Se reconstruye el set para mantener el orden consistente).
+     * (Se reconstruye el set para mantener el orden consistente, pero en el mismo objeto para no invalidar
+     * las vistas).
      */
     public void volverMayusculas( )
     {
-        NavigableSet<String> nuevo = new TreeSet<>();
-        for (String s : arbolCadenas) nuevo.add(s.toUpperCase());
-        arbolCadenas = nuevo;
+        List<String> mayusculas = new ArrayList<>(arbolCadenas.size());
+        for (String s : arbolCadenas) mayusculas.add(s.toUpperCase());
+        cargarCadenas(mayusculas);
     }
 
-    /** Devuelve un TreeSet con las cadenas ordenadas de MAYOR a MENOR. */
+    /** Reemplaza el contenido del árbol (en el mismo objeto) y el índice por las cadenas dadas. */
+    private void cargarCadenas( Collection<?> objetos )
+    {
+        arbolCadenas.clear();
+        arbolCadenas.addAll(CadenasOrdenadas.de(objetos));
+        indiceSinMayusculas.reconstruir(arbolCadenas);
+    }
+
+    /**
+     * Devuelve un TreeSet con las cadenas ordenadas de MAYOR a MENOR.
+     * Se construye desde descendingSet, que ya está en ese orden, así que cuesta O(n) en lugar de O(n log n);
+     * si basta con leerlo, getVistaCadenasInvertida no copia nada.
+     */
     public TreeSet<String> invertirCadenas( )
     {
-        TreeSet<String> invertido = new TreeSet<>(Collections.reverseOrder());
-        invertido.addAll(arbolCadenas);
-        return invertido;
+        return new TreeSet<>(arbolCadenas.descendingSet());
     }
 
-    /** Verifica si TODOS los elementos del arreglo están en el conjunto. */
+    /**
+     * Verifica si TODOS los elementos del arreglo están en el conjunto.
+     * Con arreglos grandes respecto al conjunto ordena una copia y recorre ambos a la vez en lugar de buscar
+     * cada elemento (ver PertenenciaCadenas).
+     */
     public boolean compararElementos( String[] otroArreglo )
     {
         if (otroArreglo == null) return true; // no hay nada que falte
-        for (String s : otroArreglo)
-        {
-            if (!arbolCadenas.contains(s)) return false;
-        }
-        return true;
+        return PertenenciaCadenas.contieneTodas(arbolCadenas, otroArreglo);
+    }
+
+    /** Retorna los elementos del arreglo que no están en el conjunto, en orden natural y sin repetidos. */
+    public List<String> getCadenasFaltantes( String[] otroArreglo )
+    {
+        List<String> faltantes = new ArrayList<>();
+        if (otroArreglo != null) PertenenciaCadenas.agregarFaltantes(arbolCadenas, otroArreglo, faltantes);
+        return faltantes;
+    }
+
+    /** Retorna cuántos elementos distintos del arreglo están en el conjunto (el tamaño de la intersección). */
+    public int contarCadenasEnComun( String[] otroArreglo )
+    {
+        if (otroArreglo == null) return 0;
+        return PertenenciaCadenas.contarComunes(arbolCadenas, otroArreglo);
     }
 }
@@ -1,29 +1,252 @@
 package uniandes.dpoo.estructuras.logica;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.Iterator;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 /**
  * Métodos para practicar operaciones sobre listas (enteros y cadenas).
  * Todo opera sobre los atributos listaEnteros y listaCadenas.
+ *
+ * En modo PARALELO (o AUTOMATICO, si el pool tiene varios hilos) contarApariciones, contarEnterosRepetidos,
+ * volverPositivos y organizarEnteros recorren los enteros con streams paralelos sobre poolParalelo cuando hay
+ * al menos umbralParalelo de ellos. Los resultados son los mismos que en modo secuencial.
+ *
+ * getVistaEnteros y getVistaCadenas leen las listas sin copiarlas; cada modificación incrementa versionEnteros
+ * o versionCadenas para que sus iteradores fallen rápido. getInstantaneaEnteros y getInstantaneaCadenas comparten
+ * la lista actual y la marcan como compartida: la próxima modificación trabaja sobre una copia (copy-on-write).
+ *
+ * Con el conteo incremental activado (setConteoIncremental) cada método que agrega o quita enteros actualiza
+ * repetidosEnteros, y contarEnterosRepetidos y contarApariciones(int) responden en O(1).
  */
 public class SandboxListas
 {
-    /** Lista de enteros. */
-    private List<Integer> listaEnteros;
+    /** Umbral paralelo por defecto: por debajo, repartir cuesta más de lo que ahorra. */
+    private static final int UMBRAL_PARALELO_POR_DEFECTO = 1 << 16;
+
+    /** Lista de enteros, guardados como primitivos (ver ListaEnteros y ListaEnterosEscalonada). */
+    private SecuenciaEnteros listaEnteros;
 
     /** Lista de cadenas. */
     private List<String> listaCadenas;
 
-    /** Constructor: listas vacías. */
+    /** Implementación de la lista de enteros, para crear copias del mismo tipo. */
+    private TipoListaEnteros tipoEnteros;
+
+    /** Implementación de la lista de cadenas, para crear copias del mismo tipo. */
+    private TipoListaCadenas tipoCadenas;
+
+    /** Cantidad de modificaciones a los enteros; las vistas la usan para fallar rápido. */
+    private int versionEnteros;
+
+    /** Cantidad de modificaciones a las cadenas; las vistas la usan para fallar rápido. */
+    private int versionCadenas;
+
+    /** Indica si alguna instantánea comparte listaEnteros, que entonces no se puede modificar en el sitio. */
+    private boolean enterosCompartidos;
+
+    /** Indica si alguna instantánea comparte listaCadenas, que entonces no se puede modificar en el sitio. */
+    private boolean cadenasCompartidas;
+
+    /** Frecuencias de los enteros, mantenidas en cada cambio; null si el conteo incremental está apagado. */
+    private RastreadorRepetidos repetidosEnteros;
+
+    /** Modo en el que se ejecutan los recorridos costosos sobre los enteros. */
+    private ModoEjecucion modoEjecucion;
+
+    /** Cantidad mínima de enteros para recorrerlos en paralelo. */
+    private int umbralParalelo;
+
+    /** Pool sobre el que se ejecutan los streams paralelos. */
+    private ForkJoinPool poolParalelo;
+
+    /** Constructor: listas vacías, con las cadenas en un ArrayList. */
     public SandboxListas( )
     {
-        listaEnteros = new ArrayList<Integer>( );
-        listaCadenas = new LinkedList<String>( );
+        this( TipoListaCadenas.ARREGLO );
+    }
+
+    /** Constructor: listas vacías, con las cadenas en la implementación indicada (null equivale a ARREGLO). */
+    public SandboxListas( TipoListaCadenas tipoCadenas )
+    {
+        this( TipoListaEnteros.ARREGLO, tipoCadenas );
+    }
+
+    /** Constructor: listas vacías, cada una en la implementación indicada (null equivale a ARREGLO). */
+    public SandboxListas( TipoListaEnteros tipoEnteros, TipoListaCadenas tipoCadenas )
+    {
+        this.tipoEnteros = tipoEnteros;
+        this.tipoCadenas = tipoCadenas;
+        listaEnteros = crearListaEnteros( tipoEnteros );
+        listaCadenas = crearListaCadenas( tipoCadenas );
+        modoEjecucion = ModoEjecucion.SECUENCIAL;
+        umbralParalelo = UMBRAL_PARALELO_POR_DEFECTO;
+        poolParalelo = ForkJoinPool.commonPool();
+    }
+
+    /** Crea una lista de enteros vacía del tipo indicado. */
+    private static SecuenciaEnteros crearListaEnteros( TipoListaEnteros tipo )
+    {
+        if (tipo == TipoListaEnteros.ESCALONADA) return new ListaEnterosEscalonada( );
+        return new ListaEnteros( );
+    }
+
+    /** Crea una lista de cadenas vacía del tipo indicado. */
+    private static List<String> crearListaCadenas( TipoListaCadenas tipo )
+    {
+        if (tipo == TipoListaCadenas.BUFFER_CON_HUECO) return new ListaConHueco<String>( );
+        if (tipo == TipoListaCadenas.ENLAZADA) return new LinkedList<String>( );
+        return new ArrayList<String>( );
+    }
+
+    /** Cambia el modo de ejecución de los recorridos sobre enteros (null equivale a SECUENCIAL). */
+    public void setModoEjecucion( ModoEjecucion modo )
+    {
+        modoEjecucion = modo == null ? ModoEjecucion.SECUENCIAL : modo;
+    }
+
+    /** Retorna el modo de ejecución actual. */
+    public ModoEjecucion getModoEjecucion( )
+    {
+        return modoEjecucion;
+    }
+
+    /** Cambia la cantidad mínima de enteros para ejecutar en paralelo. Valores menores que 1 se ajustan a 1. */
+    public void setUmbralParalelo( int umbral )
+    {
+        umbralParalelo = Math.max(1, umbral);
+    }
+
+    /** Cambia el pool del modo paralelo (null equivale al pool común). */
+    public void setPoolParalelo( ForkJoinPool pool )
+    {
+        poolParalelo = pool == null ? ForkJoinPool.commonPool() : pool;
+    }
+
+    /** Indica si el próximo recorrido sobre los enteros debe hacerse en paralelo. */
+    private boolean usarParalelo( )
+    {
+        return repartir(listaEnteros.size());
+    }
+
+    /** Indica si, según el modo de ejecución, vale la pena repartir un recorrido sobre cantidad elementos. */
+    private boolean repartir( int cantidad )
+    {
+        if (modoEjecucion == ModoEjecucion.SECUENCIAL || cantidad < umbralParalelo) return false;
+        return modoEjecucion == ModoEjecucion.PARALELO || poolParalelo.getParallelism() > 1;
+    }
+
+    /** Ejecuta la tarea dentro de poolParalelo, para que los streams paralelos que use corran en ese pool. */
+    private <T> T enPool( Callable<T> tarea )
+    {
+        return poolParalelo.invoke(ForkJoinTask.adapt(tarea));
+    }
+
+    /**
+     * Activa o desactiva el conteo incremental de frecuencias de los enteros.
+     * Activarlo cuesta un recorrido de la lista; a partir de ahí cada cambio lo mantiene al día.
+     */
+    public void setConteoIncremental( boolean incremental )
+    {
+        if (!incremental) repetidosEnteros = null;
+        else if (repetidosEnteros == null) repetidosEnteros = new RastreadorRepetidos(listaEnteros.toIntArray(), listaEnteros.size());
+    }
+
+    /** Vuelve a contar todas las frecuencias, después de un cambio que reemplazó el contenido de la lista. */
+    private void reconstruirConteo( )
+    {
+        if (repetidosEnteros != null) repetidosEnteros.reconstruir(listaEnteros.toIntArray(), listaEnteros.size());
+    }
+
+    /**
+     * Se llama antes de modificar los enteros: cambia la versión y, si una instantánea comparte la lista,
+     * la reemplaza por una copia para no cambiar la instantánea.
+     */
+    private void antesDeModificarEnteros( )
+    {
+        versionEnteros++;
+        if (enterosCompartidos)
+        {
+            SecuenciaEnteros copia = crearListaEnteros(tipoEnteros);
+            int[] valores = listaEnteros.toIntArray();
+            copia.cargar(valores, valores.length);
+            listaEnteros = copia;
+            enterosCompartidos = false;
+        }
+    }
+
+    /** Como antesDeModificarEnteros, para cuando se va a reemplazar todo el contenido: no hace falta copiarlo. */
+    private void antesDeReemplazarEnteros( )
+    {
+        versionEnteros++;
+        if (enterosCompartidos)
+        {
+            listaEnteros = crearListaEnteros(tipoEnteros);
+            enterosCompartidos = false;
+        }
+    }
+
+    /** Como antesDeModificarEnteros, para las cadenas. */
+    private void antesDeModificarCadenas( )
+    {
+        versionCadenas++;
+        if (cadenasCompartidas)
+        {
+            List<String> copia = crearListaCadenas(tipoCadenas);
+            copia.addAll(listaCadenas);
+            listaCadenas = copia;
+            cadenasCompartidas = false;
+        }
+    }
+
+    /** Como antesDeReemplazarEnteros, para las cadenas. */
+    private void antesDeReemplazarCadenas( )
+    {
+        versionCadenas++;
+        if (cadenasCompartidas)
+        {
+            listaCadenas = crearListaCadenas(tipoCadenas);
+            cadenasCompartidas = false;
+        }
+    }
+
+    /** Vista de sólo lectura de los enteros, sin copia: refleja los cambios y sus iteradores fallan rápido. */
+    public List<Integer> getVistaEnteros( )
+    {
+        return new VistaSoloLectura<>(( ) -> listaEnteros, ( ) -> versionEnteros);
+    }
+
+    /** Vista de sólo lectura de las cadenas, sin copia: refleja los cambios y sus iteradores fallan rápido. */
+    public List<String> getVistaCadenas( )
+    {
+        return new VistaSoloLectura<>(( ) -> listaCadenas, ( ) -> versionCadenas);
+    }
+
+    /**
+     * Instantánea de sólo lectura de los enteros, que no cambia aunque el sandbox cambie.
+     * Cuesta O(1): la lista se copia sólo si el sandbox modifica los enteros después.
+     */
+    public List<Integer> getInstantaneaEnteros( )
+    {
+        enterosCompartidos = true;
+        return Collections.unmodifiableList(listaEnteros);
+    }
+
+    /**
+     * Instantánea de sólo lectura de las cadenas, que no cambia aunque el sandbox cambie.
+     * Cuesta O(1): la lista se copia sólo si el sandbox modifica las cadenas después.
+     */
+    public List<String> getInstantaneaCadenas( )
+    {
+        cadenasCompartidas = true;
+        return Collections.unmodifiableList(listaCadenas);
     }
 
     /** Copia de la lista de enteros. */
@@ -41,10 +264,7 @@ public class SandboxListas
     /** Devuelve los enteros como arreglo (copia). */
     public int[] getEnterosComoArreglo( )
     {
-        int n = listaEnteros.size();
-        int[] a = new int[n];
-        for (int i = 0; i < n; i++) a[i] = listaEnteros.get(i);
-        return a;
+        return listaEnteros.toIntArray();
     }
 
     /** Cantidad de enteros. */
@@ -62,29 +282,50 @@ public class SandboxListas
     /** Agrega entero al final. */
     public void agregarEntero( int entero )
     {
-        listaEnteros.add(entero);
+        antesDeModificarEnteros();
+        listaEnteros.addInt(entero);
+        if (repetidosEnteros != null) repetidosEnteros.agregar(entero);
     }
 
     /** Agrega cadena al final. */
     public void agregarCadena( String cadena )
     {
+        antesDeModificarCadenas();
         listaCadenas.add(cadena);
     }
 
-    /** Elimina TODAS las apariciones de un entero. */
+    /** Elimina TODAS las apariciones de un entero, en una sola pasada. */
     public void eliminarEntero( int valor )
     {
-        for (Iterator<Integer> it = listaEnteros.iterator(); it.hasNext(); ) {
-            if (it.next() == valor) it.remove();
-        }
+        antesDeModificarEnteros();
+        listaEnteros.removeIntIf(x -> x == valor);
+        if (repetidosEnteros != null) repetidosEnteros.quitarTodos(valor);
     }
 
-    /** Elimina TODAS las apariciones de una cadena (sensitivo a mayúsculas). */
+    /** Elimina TODAS las apariciones de una cadena (sensitivo a mayúsculas), en una sola pasada. */
     public void eliminarCadena( String cadena )
     {
-        for (Iterator<String> it = listaCadenas.iterator(); it.hasNext(); ) {
-            if (it.next().equals(cadena)) it.remove();
-        }
+        antesDeModificarCadenas();
+        listaCadenas.removeIf(s -> s.equals(cadena));
+    }
+
+    /** Elimina TODAS las apariciones de cualquiera de los valores, en una sola pasada. */
+    public void eliminarEnteros( int[] valores )
+    {
+        if (valores == null || valores.length == 0) return;
+        antesDeModificarEnteros();
+        MapaFrecuencias aEliminar = MapaFrecuencias.contar(valores, valores.length);
+        listaEnteros.removeIntIf(x -> aEliminar.get(x) != 0);
+        if (repetidosEnteros != null) aEliminar.forEach(( valor, veces ) -> repetidosEnteros.quitarTodos(valor));
+    }
+
+    /** Elimina TODAS las apariciones de cualquiera de las cadenas (sensitivo a mayúsculas), en una sola pasada. */
+    public void eliminarCadenas( Collection<String> cadenas )
+    {
+        if (cadenas == null || cadenas.isEmpty()) return;
+        antesDeModificarCadenas();
+        Set<String> aEliminar = new HashSet<>(cadenas);
+        listaCadenas.removeIf(aEliminar::contains);
     }
 
     /**
@@ -93,31 +334,41 @@ public class SandboxListas
      */
     public void insertarEntero( int entero, int posicion )
     {
+        antesDeModificarEnteros();
         int n = listaEnteros.size();
         int pos = posicion;
         if (pos < 0) pos = 0;
         if (pos > n) pos = n;
-        listaEnteros.add(pos, entero);
+        listaEnteros.addInt(pos, entero);
+        if (repetidosEnteros != null) repetidosEnteros.agregar(entero);
     }
 
     /** Elimina entero por posición si es válida. */
     public void eliminarEnteroPorPosicion( int posicion )
     {
         if (posicion < 0 || posicion >= listaEnteros.size()) return;
-        listaEnteros.remove(posicion);
+        antesDeModificarEnteros();
+        int valor = listaEnteros.removeIntAt(posicion);
+        if (repetidosEnteros != null) repetidosEnteros.quitar(valor);
     }
 
     /** Reinicia enteros a partir de doubles truncando. */
     public void reiniciarArregloEnteros( double[] valores )
     {
+        antesDeReemplazarEnteros();
         listaEnteros.clear();
-        if (valores == null) return;
-        for (double d : valores) listaEnteros.add((int) d); // truncamiento hacia 0
+        if (valores != null)
+        {
+            listaEnteros.ensureCapacity(valores.length);
+            for (double d : valores) listaEnteros.addInt((int) d); // truncamiento hacia 0
+        }
+        reconstruirConteo();
     }
 
     /** Reinicia cadenas con toString() de cada objeto. */
     public void reiniciarArregloCadenas( List<Object> objetos )
     {
+        antesDeReemplazarCadenas();
         listaCadenas.clear();
         if (objetos == null) return;
         for (Object o : objetos) listaCadenas.add(String.valueOf(o));
@@ -126,29 +377,67 @@ public class SandboxListas
     /** Vuelve todos los enteros positivos (valor absoluto). */
     public void volverPositivos( )
     {
-        for (int i = 0; i < listaEnteros.size(); i++) {
-            listaEnteros.set(i, Math.abs(listaEnteros.get(i)));
-        }
+        antesDeModificarEnteros();
+        if (usarParalelo())
+            enPool(( ) -> {
+                listaEnteros.parallelReplaceAllInts(Math::abs);
+                return null;
+            });
+        else
+            listaEnteros.replaceAllInts(Math::abs);
+        reconstruirConteo();
     }
 
     /** Ordena enteros de MAYOR a MENOR. */
     public void organizarEnteros( )
     {
-        Collections.sort(listaEnteros, Collections.reverseOrder());
+        antesDeModificarEnteros();
+        if (usarParalelo())
+            enPool(( ) -> {
+                listaEnteros.parallelSortInts();
+                return null;
+            });
+        else
+            listaEnteros.sortInts();
+        listaEnteros.reverse();
+    }
+
+    /**
+     * Ordena de MAYOR a MENOR sólo las primeras k posiciones: quedan los k mayores enteros, en orden,
+     * y el resto queda después en un orden cualquiera. Con k >= tamaño equivale a organizarEnteros.
+     */
+    public void organizarParcialmente( int k )
+    {
+        antesDeModificarEnteros();
+        listaEnteros.sortLargestFirst(k);
+    }
+
+    /** Retorna los k mayores enteros de MAYOR a MENOR, sin modificar la lista (todos si k >= tamaño). */
+    public int[] topEnteros( int k )
+    {
+        return SeleccionEnteros.mayores(listaEnteros, k);
+    }
+
+    /** Retorna los k menores enteros de MENOR a MAYOR, sin modificar la lista (todos si k >= tamaño). */
+    public int[] bottomEnteros( int k )
+    {
+        return SeleccionEnteros.menores(listaEnteros, k);
     }
 
     /** Ordena cadenas lexicográficamente (ascendente). */
     public void organizarCadenas( )
     {
+        antesDeModificarCadenas();
         Collections.sort(listaCadenas);
     }
 
     /** Cuenta apariciones de un entero. */
     public int contarApariciones( int valor )
     {
-        int c = 0;
-        for (int x : listaEnteros) if (x == valor) c++;
-        return c;
+        if (repetidosEnteros != null) return repetidosEnteros.getFrecuencia(valor);
+        if (usarParalelo())
+            return enPool(( ) -> (int) listaEnteros.streamInts().parallel().filter(x -> x == valor).count());
+        return listaEnteros.countInts(x -> x == valor);
     }
 
     /** Cuenta apariciones de una cadena (case-insensitive). */
@@ -165,22 +454,26 @@ public class SandboxListas
      */
     public int contarEnterosRepetidos( )
     {
-        HashMap<Integer,Integer> freq = new HashMap<>();
-        for (int x : listaEnteros) freq.put(x, freq.getOrDefault(x, 0) + 1);
-        int c = 0;
-        for (int f : freq.values()) if (f >= 2) c++;
-        return c;
+        if (repetidosEnteros != null) return repetidosEnteros.getRepetidos();
+        MapaFrecuencias freq;
+        if (usarParalelo())
+        {
+            // cada pedazo cuenta en su propio mapa y los mapas se suman al combinar
+            freq = enPool(( ) -> listaEnteros.streamInts().parallel()
+                    .collect(MapaFrecuencias::new, MapaFrecuencias::incrementar, MapaFrecuencias::sumarTodo));
+        }
+        else
+        {
+            freq = new MapaFrecuencias();
+            listaEnteros.forEachInt(freq::incrementar);
+        }
+        return freq.contarConFrecuenciaMinima(2);
     }
 
     /** Compara lista de enteros con arreglo, mismo orden y tamaño. */
     public boolean compararArregloEnteros( int[] otroArreglo )
     {
-        if (otroArreglo == null) return false;
-        if (listaEnteros.size() != otroArreglo.length) return false;
-        for (int i = 0; i < otroArreglo.length; i++) {
-            if (listaEnteros.get(i) != otroArreglo[i]) return false;
-        }
-        return true;
+        return listaEnteros.equalsIntArray(otroArreglo);
     }
 
     /**
@@ -188,16 +481,44 @@ public class SandboxListas
      * reemplazando el contenido de la lista.
      */
     public void generarEnteros( int cantidad, int minimo, int maximo )
+    {
+        generarEnteros(cantidad, minimo, maximo, DistribucionEnteros.UNIFORME, new GeneradorEnteros());
+    }
+
+    /**
+     * Igual que generarEnteros, pero reproducible: la misma semilla genera siempre los mismos enteros,
+     * también en modo paralelo.
+     */
+    public void generarEnteros( int cantidad, int minimo, int maximo, long semilla )
+    {
+        generarEnteros(cantidad, minimo, maximo, DistribucionEnteros.UNIFORME, new GeneradorEnteros(semilla));
+    }
+
+    /**
+     * Igual que generarEnteros con semilla, pero con los valores repartidos en el rango según la distribución
+     * (null equivale a UNIFORME).
+     */
+    public void generarEnteros( int cantidad, int minimo, int maximo, DistribucionEnteros distribucion, long semilla )
+    {
+        generarEnteros(cantidad, minimo, maximo, distribucion, new GeneradorEnteros(semilla));
+    }
+
+    /**
+     * Reemplaza el contenido de la lista por cantidad enteros del generador. Los valores se generan en un arreglo
+     * del tamaño exacto (por bloques en paralelo si corresponde) y la lista lo adopta de una vez.
+     */
+    private void generarEnteros( int cantidad, int minimo, int maximo, DistribucionEnteros distribucion, GeneradorEnteros generador )
     {
         if (cantidad < 0) cantidad = 0;
-        if (minimo > maximo) { int t = minimo; minimo = maximo; maximo = t; }
 
-        listaEnteros.clear();
-        int rango = maximo - minimo + 1;
-        for (int i = 0; i < cantidad; i++) {
-            int v = minimo + (int)(Math.random() * rango);
-            listaEnteros.add(v);
-        }
+        int[] valores = new int[cantidad];
+        if (repartir(cantidad))
+            generador.llenarEnParalelo(poolParalelo, valores, cantidad, minimo, maximo, distribucion);
+        else
+            generador.llenar(valores, cantidad, minimo, maximo, distribucion);
+        antesDeReemplazarEnteros();
+        if (repetidosEnteros != null) repetidosEnteros.reconstruir(valores, cantidad);
+        listaEnteros.cargar(valores, cantidad);
     }
 }
 
@@ -0,0 +1,216 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.RandomAccess;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+/**
+ * Base de las listas de enteros que guardan primitivos en lugar de un objeto Integer por elemento.
+ *
+ * Las subclases implementan el acceso por posición (getInt, setInt, addInt, removeIntAt), clear y cargar;
+ * los demás métodos primitivos tienen aquí una implementación general basada en ellos, que cada subclase
+ * puede reemplazar por una más rápida para su forma de guardar los valores. Los métodos de List&lt;Integer&gt;
+ * convierten entre int e Integer y delegan en los primitivos. No admite null.
+ */
+public abstract class SecuenciaEnteros extends AbstractList<Integer> implements RandomAccess
+{
+    /** Retorna el valor en la posición dada. */
+    public abstract int getInt( int posicion );
+
+    /** Cambia el valor en la posición dada y retorna el anterior. */
+    public abstract int setInt( int posicion, int valor );
+
+    /** Inserta un valor en la posición dada (entre 0 y size()), corriendo los siguientes. */
+    public abstract void addInt( int posicion, int valor );
+
+    /** Elimina el valor en la posición dada y lo retorna. */
+    public abstract int removeIntAt( int posicion );
+
+    /** Reemplaza todo el contenido por los primeros n valores del arreglo, que la lista puede adoptar sin copiar. */
+    protected abstract void cargar( int[] valores, int n );
+
+    /** Agrega un valor al final. */
+    public void addInt( int valor )
+    {
+        addInt(size(), valor);
+    }
+
+    /** Agrega todos los valores al final, en orden. */
+    public void addAll( int[] valores )
+    {
+        ensureCapacity(size() + valores.length);
+        for (int v : valores) addInt(v);
+    }
+
+    /** Garantiza espacio para al menos minimo valores; las implementaciones sin capacidad fija lo ignoran. */
+    public void ensureCapacity( int minimo )
+    {
+    }
+
+    /**
+     * Elimina todos los valores que cumplen la condición en una sola pasada.
+     * Retorna true si eliminó alguno.
+     */
+    public boolean removeIntIf( IntPredicate condicion )
+    {
+        int[] a = toIntArray();
+        int j = 0;
+        for (int x : a) if (!condicion.test(x)) a[j++] = x;
+        if (j == a.length) return false;
+        cargar(a, j);
+        return true;
+    }
+
+    /** Ejecuta la acción con cada valor, en orden. */
+    public void forEachInt( IntConsumer accion )
+    {
+        int esperado = modCount;
+        for (int i = 0, n = size(); i < n && modCount == esperado; i++) accion.accept(getInt(i));
+        if (modCount != esperado) throw new ConcurrentModificationException();
+    }
+
+    /** Retorna cuántos valores cumplen la condición. */
+    public int countInts( IntPredicate condicion )
+    {
+        int c = 0;
+        for (int i = 0, n = size(); i < n; i++) if (condicion.test(getInt(i))) c++;
+        return c;
+    }
+
+    /** Combina todos los valores, en orden, empezando desde inicial: f(...f(f(inicial, v0), v1)..., vn). */
+    public int reduceInts( int inicial, IntBinaryOperator f )
+    {
+        int acumulado = inicial;
+        for (int i = 0, n = size(); i < n; i++) acumulado = f.applyAsInt(acumulado, getInt(i));
+        return acumulado;
+    }
+
+    /** Reemplaza cada valor por el resultado de aplicarle f. */
+    public void replaceAllInts( IntUnaryOperator f )
+    {
+        for (int i = 0, n = size(); i < n; i++) setInt(i, f.applyAsInt(getInt(i)));
+        modCount++;
+    }
+
+    /** Como replaceAllInts, pero repartiendo las posiciones en paralelo; f no debe depender del orden. */
+    public void parallelReplaceAllInts( IntUnaryOperator f )
+    {
+        IntStream.range(0, size()).parallel().forEach(i -> setInt(i, f.applyAsInt(getInt(i))));
+        modCount++;
+    }
+
+    /** Indica si la lista tiene exactamente los mismos valores que el arreglo, en el mismo orden. */
+    public boolean equalsIntArray( int[] otro )
+    {
+        if (otro == null || otro.length != size()) return false;
+        for (int i = 0; i < otro.length; i++) if (getInt(i) != otro[i]) return false;
+        return true;
+    }
+
+    /**
+     * Retorna un IntStream secuencial sobre los valores, que se parte por posiciones para recorridos en
+     * paralelo. La lista no debe cambiar mientras el stream se usa.
+     */
+    public IntStream streamInts( )
+    {
+        return IntStream.range(0, size()).map(this::getInt);
+    }
+
+    /** Retorna la primera posición del valor, o -1 si no está. */
+    public int indexOfInt( int valor )
+    {
+        for (int i = 0, n = size(); i < n; i++) if (getInt(i) == valor) return i;
+        return -1;
+    }
+
+    /** Retorna una copia de los valores como arreglo. */
+    public int[] toIntArray( )
+    {
+        int[] a = new int[size()];
+        for (int i = 0; i < a.length; i++) a[i] = getInt(i);
+        return a;
+    }
+
+    /** Ordena la lista de menor a mayor. */
+    public void sortInts( )
+    {
+        int[] a = toIntArray();
+        Arrays.sort(a);
+        cargar(a, a.length);
+    }
+
+    /** Como sortInts, pero ordenando en paralelo (Arrays.parallelSort). */
+    public void parallelSortInts( )
+    {
+        int[] a = toIntArray();
+        Arrays.parallelSort(a);
+        cargar(a, a.length);
+    }
+
+    /**
+     * Deja en las primeras k posiciones los k mayores valores, de mayor a menor, sin ordenar el resto.
+     * Cuesta O(n) en promedio más O(k log k).
+     */
+    public void sortLargestFirst( int k )
+    {
+        int[] a = toIntArray();
+        SeleccionEnteros.ordenarMayoresAlInicio(a, a.length, k);
+        cargar(a, a.length);
+    }
+
+    /** Invierte el orden de la lista. */
+    public void reverse( )
+    {
+        for (int i = 0, j = size() - 1; i < j; i++, j--) setInt(j, setInt(i, getInt(j)));
+        modCount++;
+    }
+
+    @Override
+    public Integer get( int posicion )
+    {
+        return getInt(posicion);
+    }
+
+    @Override
+    public Integer set( int posicion, Integer valor )
+    {
+        return setInt(posicion, valor);
+    }
+
+    @Override
+    public void add( int posicion, Integer valor )
+    {
+        addInt(posicion, valor);
+    }
+
+    @Override
+    public Integer remove( int posicion )
+    {
+        return removeIntAt(posicion);
+    }
+
+    @Override
+    public int indexOf( Object o )
+    {
+        return o instanceof Integer ? indexOfInt((Integer) o) : -1;
+    }
+
+    @Override
+    public boolean contains( Object o )
+    {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public boolean removeIf( Predicate<? super Integer> condicion )
+    {
+        return removeIntIf(condicion::test);
+    }
+}
@@ -0,0 +1,153 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntConsumer;
+
+/**
+ * Selección de los k mayores o menores enteros sin ordenar todos los valores.
+ * Los montículos acotados cuestan O(n log k) y no modifican la entrada; la selección en el sitio
+ * (quickselect) cuesta O(n) en promedio más O(k log k) para ordenar los k elegidos.
+ */
+final class SeleccionEnteros
+{
+    private SeleccionEnteros( )
+    {
+    }
+
+    /** Retorna los k mayores valores de la lista, de mayor a menor, sin modificarla. */
+    static int[] mayores( SecuenciaEnteros lista, int k )
+    {
+        return seleccionar(lista, k, true);
+    }
+
+    /** Retorna los k menores valores de la lista, de menor a mayor, sin modificarla. */
+    static int[] menores( SecuenciaEnteros lista, int k )
+    {
+        return seleccionar(lista, k, false);
+    }
+
+    private static int[] seleccionar( SecuenciaEnteros lista, int k, boolean mayores )
+    {
+        int n = lista.size();
+        if (k <= 0) return new int[0];
+        if (k >= n)
+        {
+            // pedir todos es un ordenamiento completo: no vale la pena el montículo
+            int[] todos = lista.toIntArray();
+            Arrays.sort(todos);
+            if (mayores) invertir(todos, 0, n);
+            return todos;
+        }
+        MonticuloAcotado monticulo = new MonticuloAcotado(k, mayores);
+        lista.forEachInt(monticulo);
+        int[] resultado = monticulo.datos;
+        Arrays.sort(resultado);
+        if (mayores) invertir(resultado, 0, k);
+        return resultado;
+    }
+
+    /**
+     * Reorganiza a[0, n) para que las primeras k posiciones tengan los k mayores valores, de mayor a menor.
+     * El orden de las demás posiciones no se garantiza.
+     */
+    static void ordenarMayoresAlInicio( int[] a, int n, int k )
+    {
+        if (k <= 0 || n <= 1) return;
+        if (k >= n)
+        {
+            Arrays.sort(a, 0, n);
+            invertir(a, 0, n);
+            return;
+        }
+        // quickselect descendente: al terminar, a[0, k) >= a[k, n)
+        int izquierda = 0;
+        int derecha = n - 1;
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        while (izquierda < derecha)
+        {
+            int pivote = a[izquierda + aleatorio.nextInt(derecha - izquierda + 1)];
+            // partición en tres: [izquierda, lt) > pivote, [lt, i) == pivote, (gt, derecha] < pivote
+            int lt = izquierda;
+            int gt = derecha;
+            int i = izquierda;
+            while (i <= gt)
+            {
+                if (a[i] > pivote) intercambiar(a, lt++, i++);
+                else if (a[i] < pivote) intercambiar(a, i, gt--);
+                else i++;
+            }
+            if (k < lt) derecha = lt - 1;
+            else if (k > gt + 1) izquierda = gt + 1;
+            else break; // la posición k cae en la franja de iguales al pivote
+        }
+        Arrays.sort(a, 0, k);
+        invertir(a, 0, k);
+    }
+
+    private static void intercambiar( int[] a, int i, int j )
+    {
+        int t = a[i];
+        a[i] = a[j];
+        a[j] = t;
+    }
+
+    private static void invertir( int[] a, int desde, int hasta )
+    {
+        for (int i = desde, j = hasta - 1; i < j; i++, j--) intercambiar(a, i, j);
+    }
+
+    /**
+     * Montículo binario de a lo sumo k valores que conserva los k mayores (o menores) de los que recibe.
+     * La raíz es el peor de los conservados, así que cada valor nuevo se compara sólo contra ella.
+     */
+    private static final class MonticuloAcotado implements IntConsumer
+    {
+        private final int[] datos;
+        private final boolean mayores;
+        private int tamano;
+
+        MonticuloAcotado( int k, boolean mayores )
+        {
+            this.datos = new int[k];
+            this.mayores = mayores;
+        }
+
+        /** Indica si x debe quedar más cerca de la raíz que y, es decir, si es peor candidato. */
+        private boolean peor( int x, int y )
+        {
+            return mayores ? x < y : x > y;
+        }
+
+        @Override
+        public void accept( int valor )
+        {
+            if (tamano < datos.length)
+            {
+                int i = tamano++;
+                while (i > 0)
+                {
+                    int padre = (i - 1) >>> 1;
+                    if (!peor(valor, datos[padre])) break;
+                    datos[i] = datos[padre];
+                    i = padre;
+                }
+                datos[i] = valor;
+            }
+            else if (peor(datos[0], valor))
+            {
+                int i = 0;
+                while (true)
+                {
+                    int hijo = 2 * i + 1;
+                    if (hijo >= tamano) break;
+                    if (hijo + 1 < tamano && peor(datos[hijo + 1], datos[hijo])) hijo++;
+                    if (!peor(datos[hijo], valor)) break;
+                    datos[i] = datos[hijo];
+                    i = hijo;
+                }
+                datos[i] = valor;
+            }
+        }
+    }
+}
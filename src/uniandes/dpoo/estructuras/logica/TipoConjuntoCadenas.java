@@ -0,0 +1,16 @@
+package uniandes.dpoo.estructuras.logica;
+
+/**
+ * Implementación con la que SandboxConjuntos guarda su conjunto de cadenas.
+ */
+public enum TipoConjuntoCadenas
+{
+    /** TreeSet: inserciones y eliminaciones en O(log n), con un nodo por elemento. */
+    ARBOL,
+
+    /**
+     * ConjuntoCadenasOrdenado: un arreglo ordenado con búsqueda binaria. Ocupa mucho menos y se consulta más
+     * rápido, pero cada modificación rehace el arreglo, así que conviene cuando se escribe poco y se lee mucho.
+     */
+    ARREGLO_ORDENADO
+}
@@ -0,0 +1,19 @@
+package uniandes.dpoo.estructuras.logica;
+
+/**
+ * Implementación con la que SandboxListas guarda su lista de cadenas.
+ */
+public enum TipoListaCadenas
+{
+    /** ArrayList: la mejor opción para agregar al final, recorrer, ordenar y eliminar en bloque. */
+    ARREGLO,
+
+    /**
+     * ListaConHueco: un arreglo con un hueco móvil. Las ediciones seguidas cerca de la misma posición en medio
+     * de la lista sólo corren los elementos entre la edición anterior y la nueva.
+     */
+    BUFFER_CON_HUECO,
+
+    /** LinkedList: un nodo por elemento. Se conserva por compatibilidad. */
+    ENLAZADA
+}
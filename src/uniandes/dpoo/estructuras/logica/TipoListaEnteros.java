@@ -0,0 +1,16 @@
+package uniandes.dpoo.estructuras.logica;
+
+/**
+ * Implementación con la que SandboxListas guarda su lista de enteros.
+ */
+public enum TipoListaEnteros
+{
+    /** ListaEnteros: un int[] contiguo. La mejor opción para agregar al final, recorrer y ordenar. */
+    ARREGLO,
+
+    /**
+     * ListaEnterosEscalonada: bloques de tamaño cercano a la raíz de n. Insertar y eliminar en posiciones
+     * arbitrarias cuesta O(raíz de n) en lugar de O(n), a cambio de recorridos un poco más lentos.
+     */
+    ESCALONADA
+}
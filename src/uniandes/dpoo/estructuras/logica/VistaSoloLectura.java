@@ -0,0 +1,130 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.AbstractList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Lista de sólo lectura que lee directamente la colección de un sandbox, sin copiarla.
+ *
+ * Cada vez que el sandbox modifica la colección incrementa un número de versión; los iteradores de la vista
+ * recuerdan la versión con la que se crearon y lanzan ConcurrentModificationException si cambió. Los métodos
+ * que modificarían la lista lanzan UnsupportedOperationException.
+ */
+final class VistaSoloLectura<E> extends AbstractList<E>
+{
+    /** Retorna la colección que se está viendo (el sandbox puede cambiarla por otra al copiar antes de escribir). */
+    private final Supplier<? extends List<? extends E>> fuente;
+
+    /** Retorna la versión actual de la colección. */
+    private final IntSupplier version;
+
+    VistaSoloLectura( Supplier<? extends List<? extends E>> fuente, IntSupplier version )
+    {
+        this.fuente = fuente;
+        this.version = version;
+    }
+
+    @Override
+    public E get( int posicion )
+    {
+        return fuente.get().get(posicion);
+    }
+
+    @Override
+    public int size( )
+    {
+        return fuente.get().size();
+    }
+
+    @Override
+    public Iterator<E> iterator( )
+    {
+        return listIterator(0);
+    }
+
+    @Override
+    public ListIterator<E> listIterator( int posicion )
+    {
+        return new Cursor(fuente.get().listIterator(posicion));
+    }
+
+    /** Iterador que delega en el de la colección y falla rápido si la versión cambia. */
+    private final class Cursor implements ListIterator<E>
+    {
+        private final ListIterator<? extends E> actual;
+        private final int esperada = version.getAsInt();
+
+        Cursor( ListIterator<? extends E> actual )
+        {
+            this.actual = actual;
+        }
+
+        private void verificar( )
+        {
+            if (version.getAsInt() != esperada) throw new ConcurrentModificationException();
+        }
+
+        @Override
+        public boolean hasNext( )
+        {
+            verificar();
+            return actual.hasNext();
+        }
+
+        @Override
+        public E next( )
+        {
+            verificar();
+            return actual.next();
+        }
+
+        @Override
+        public boolean hasPrevious( )
+        {
+            verificar();
+            return actual.hasPrevious();
+        }
+
+        @Override
+        public E previous( )
+        {
+            verificar();
+            return actual.previous();
+        }
+
+        @Override
+        public int nextIndex( )
+        {
+            return actual.nextIndex();
+        }
+
+        @Override
+        public int previousIndex( )
+        {
+            return actual.previousIndex();
+        }
+
+        @Override
+        public void remove( )
+        {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void set( E e )
+        {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void add( E e )
+        {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
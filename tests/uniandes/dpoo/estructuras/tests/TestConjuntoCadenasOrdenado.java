@@ -0,0 +1,126 @@
+package uniandes.dpoo.estructuras.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uniandes.dpoo.estructuras.logica.ConjuntoCadenasOrdenado;
+
+class TestConjuntoCadenasOrdenado
+{
+    private ConjuntoCadenasOrdenado sencillo;
+
+    private static final String[] cadenasSencillas = new String[]{ "d", "b", "f", "a", "e", "b", "c" };
+
+    @BeforeEach
+    void setUp( ) throws Exception
+    {
+        sencillo = new ConjuntoCadenasOrdenado( Arrays.asList( cadenasSencillas ) );
+    }
+
+    @AfterEach
+    void reset( )
+    {
+        sencillo = null;
+    }
+
+    @Test
+    void testConsultas( )
+    {
+        assertEquals( Arrays.asList( "a", "b", "c", "d", "e", "f" ), new ArrayList<String>( sencillo ), "Las cadenas no quedaron ordenadas y sin repetidos" );
+        assertEquals( 6, sencillo.size( ), "La cantidad de cadenas no es correcta" );
+        assertTrue( sencillo.contains( "c" ), "Debería contener la cadena" );
+        assertFalse( sencillo.contains( "cc" ), "No debería contener la cadena" );
+        assertEquals( "a", sencillo.first( ), "La primera cadena no es correcta" );
+        assertEquals( "f", sencillo.last( ), "La última cadena no es correcta" );
+        assertEquals( "d", sencillo.ceiling( "cc" ), "ceiling no es correcto" );
+        assertEquals( "c", sencillo.floor( "cc" ), "floor no es correcto" );
+        assertEquals( "d", sencillo.higher( "c" ), "higher no es correcto" );
+        assertEquals( "b", sencillo.lower( "c" ), "lower no es correcto" );
+        assertNull( sencillo.higher( "f" ), "No hay cadenas después de la última" );
+    }
+
+    @Test
+    void testEscrituras( )
+    {
+        assertTrue( sencillo.add( "cc" ), "Debería agregar la cadena nueva" );
+        assertFalse( sencillo.add( "cc" ), "No debería agregar una cadena repetida" );
+        assertTrue( sencillo.remove( "a" ), "Debería eliminar la cadena" );
+        assertFalse( sencillo.remove( "a" ), "No debería eliminar una cadena que no está" );
+        assertTrue( sencillo.addAll( Arrays.asList( "z", "b", "ba" ) ), "Debería agregar las cadenas nuevas" );
+        assertEquals( Arrays.asList( "b", "ba", "c", "cc", "d", "e", "f", "z" ), new ArrayList<String>( sencillo ), "La mezcla no quedó en orden" );
+        assertEquals( "b", sencillo.pollFirst( ), "pollFirst no retornó la primera" );
+        assertEquals( "z", sencillo.pollLast( ), "pollLast no retornó la última" );
+        assertTrue( sencillo.removeIf( s -> s.length( ) > 1 ), "Debería eliminar las cadenas largas" );
+        assertEquals( Arrays.asList( "c", "d", "e", "f" ), new ArrayList<String>( sencillo ), "removeIf no eliminó las cadenas correctas" );
+        assertThrows( NullPointerException.class, ( ) -> sencillo.add( null ), "No debería admitir null" );
+    }
+
+    @Test
+    void testVistas( )
+    {
+        NavigableSet<String> medio = sencillo.subSet( "b", true, "e", false );
+        NavigableSet<String> invertido = sencillo.descendingSet( );
+        assertEquals( Arrays.asList( "b", "c", "d" ), new ArrayList<String>( medio ), "subSet no es correcto" );
+        assertEquals( Arrays.asList( "f", "e", "d", "c", "b", "a" ), new ArrayList<String>( invertido ), "descendingSet no es correcto" );
+        assertEquals( Arrays.asList( "c", "b", "a" ), new ArrayList<String>( invertido.tailSet( "c", true ) ), "tailSet de la vista invertida no es correcto" );
+        assertEquals( "b", invertido.higher( "c" ), "higher en la vista invertida no es correcto" );
+
+        medio.add( "bb" );
+        assertTrue( sencillo.contains( "bb" ), "Agregar en la vista debería agregar en el conjunto" );
+        sencillo.remove( "c" );
+        assertEquals( Arrays.asList( "b", "bb", "d" ), new ArrayList<String>( medio ), "La vista no refleja los cambios del conjunto" );
+        assertThrows( IllegalArgumentException.class, ( ) -> medio.add( "z" ), "No debería agregar fuera del rango de la vista" );
+        medio.clear( );
+        assertEquals( Arrays.asList( "a", "e", "f" ), new ArrayList<String>( sencillo ), "clear en la vista sólo debería eliminar su rango" );
+    }
+
+    @Test
+    void testIteradorSobreInstantanea( )
+    {
+        Iterator<String> it = sencillo.iterator( );
+        sencillo.add( "aa" );
+        List<String> vistas = new ArrayList<String>( );
+        while( it.hasNext( ) )
+        {
+            String s = it.next( );
+            vistas.add( s );
+            if( s.compareTo( "c" ) < 0 )
+                it.remove( );
+        }
+        assertEquals( Arrays.asList( "a", "b", "c", "d", "e", "f" ), vistas, "El iterador debería recorrer el contenido que había al crearlo" );
+        assertEquals( Arrays.asList( "aa", "c", "d", "e", "f" ), new ArrayList<String>( sencillo ), "remove del iterador no eliminó las cadenas" );
+    }
+
+    @Test
+    void testOperacionesAleatorias( )
+    {
+        Random azar = new Random( 5 );
+        ConjuntoCadenasOrdenado conjunto = new ConjuntoCadenasOrdenado( );
+        TreeSet<String> esperado = new TreeSet<String>( );
+        for( int i = 0; i < 2000; i++ )
+        {
+            String s = Integer.toString( azar.nextInt( 300 ), 36 );
+            if( azar.nextInt( 3 ) == 0 )
+                assertEquals( esperado.remove( s ), conjunto.remove( s ), "remove no coincide con TreeSet" );
+            else
+                assertEquals( esperado.add( s ), conjunto.add( s ), "add no coincide con TreeSet" );
+            assertEquals( esperado.ceiling( s ), conjunto.ceiling( s ), "ceiling no coincide con TreeSet" );
+        }
+        assertEquals( new ArrayList<String>( esperado ), new ArrayList<String>( conjunto ), "El contenido no coincide con TreeSet" );
+    }
+}
@@ -0,0 +1,101 @@
+package uniandes.dpoo.estructuras.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uniandes.dpoo.estructuras.logica.ListaConHueco;
+
+class TestListaConHueco
+{
+    private ListaConHueco<String> sencilla;
+
+    private static final String[] cadenasSencillas = new String[]{ "a", "b", "c", "d", "e", "d", "c", "b", "a" };
+
+    @BeforeEach
+    void setUp( ) throws Exception
+    {
+        sencilla = new ListaConHueco<>( );
+        for( int i = 0; i < cadenasSencillas.length; i++ )
+        {
+            sencilla.add( cadenasSencillas[ i ] );
+        }
+    }
+
+    @AfterEach
+    void reset( )
+    {
+        sencilla = null;
+    }
+
+    @Test
+    void testEdicionesEnMedio( )
+    {
+        sencilla.add( 4, "x" );
+        sencilla.add( 5, "y" );
+        sencilla.remove( 3 );
+        sencilla.add( 0, "z" );
+        assertEquals( Arrays.asList( "z", "a", "b", "c", "x", "y", "e", "d", "c", "b", "a" ), sencilla, "Las ediciones no quedaron en las posiciones correctas" );
+        assertEquals( "x", sencilla.set( 4, "w" ), "set debería retornar el elemento anterior" );
+        assertEquals( "w", sencilla.get( 4 ), "set no cambió el elemento" );
+    }
+
+    @Test
+    void testOrdenar( )
+    {
+        sencilla.add( 3, "m" );
+        Collections.sort( sencilla );
+        assertEquals( Arrays.asList( "a", "a", "b", "b", "c", "c", "d", "d", "e", "m" ), sencilla, "La lista no quedó ordenada" );
+    }
+
+    @Test
+    void testIgualQueArrayList( )
+    {
+        Random aleatorio = new Random( 11 );
+        List<String> esperada = new ArrayList<>( sencilla );
+        for( int i = 0; i < 5000; i++ )
+        {
+            int operacion = aleatorio.nextInt( 4 );
+            if( operacion < 2 || esperada.isEmpty( ) )
+            {
+                int posicion = aleatorio.nextInt( esperada.size( ) + 1 );
+                esperada.add( posicion, "v" + i );
+                sencilla.add( posicion, "v" + i );
+            }
+            else if( operacion == 2 )
+            {
+                int posicion = aleatorio.nextInt( esperada.size( ) );
+                assertEquals( esperada.remove( posicion ), sencilla.remove( posicion ), "remove retornó un elemento distinto" );
+            }
+            else
+            {
+                int posicion = aleatorio.nextInt( esperada.size( ) );
+                assertEquals( esperada.get( posicion ), sencilla.get( posicion ), "get retornó un elemento distinto" );
+            }
+        }
+        assertEquals( esperada, sencilla, "La lista no coincide con un ArrayList con las mismas operaciones" );
+
+        sencilla.clear( );
+        assertTrue( sencilla.isEmpty( ), "La lista debería quedar vacía" );
+    }
+
+    @Test
+    void testRemoveIf( )
+    {
+        sencilla.add( 2, "x" );
+        assertTrue( sencilla.removeIf( s -> s.equals( "b" ) || s.equals( "d" ) ), "removeIf debería indicar que eliminó elementos" );
+        assertEquals( Arrays.asList( "a", "x", "c", "e", "c", "a" ), sencilla, "No se eliminaron los elementos correctos" );
+        sencilla.add( 1, "y" );
+        assertEquals( Arrays.asList( "a", "y", "x", "c", "e", "c", "a" ), sencilla, "La lista no quedó usable después de removeIf" );
+    }
+
+}
@@ -0,0 +1,150 @@
+package uniandes.dpoo.estructuras.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uniandes.dpoo.estructuras.logica.ListaEnteros;
+
+class TestListaEnteros
+{
+    private ListaEnteros sencilla;
+    private ListaEnteros vacia;
+
+    private static final int[] enterosSencillos = new int[]{ 9, 8, 7, 6, 5, 4, 3, 2, 1, 0, 6, -2, -3, -4, -5, 6, 7, 8, 9 };
+
+    @BeforeEach
+    void setUp( ) throws Exception
+    {
+        sencilla = new ListaEnteros( );
+        for( int i = 0; i < enterosSencillos.length; i++ )
+        {
+            sencilla.addInt( enterosSencillos[ i ] );
+        }
+        vacia = new ListaEnteros( );
+    }
+
+    @AfterEach
+    void reset( )
+    {
+        sencilla = null;
+        vacia = null;
+    }
+
+    @Test
+    void testAccesoPrimitivo( )
+    {
+        assertEquals( enterosSencillos.length, sencilla.size( ), "La cantidad de enteros no es correcta" );
+        assertEquals( 6, sencilla.getInt( 3 ), "El valor en la posición no es correcto" );
+        assertEquals( 6, sencilla.setInt( 3, 60 ), "setInt debería retornar el valor anterior" );
+        assertEquals( 60, sencilla.getInt( 3 ), "El valor no se cambió" );
+
+        sencilla.addInt( 0, 100 );
+        assertEquals( 100, sencilla.getInt( 0 ), "El valor no se insertó al inicio" );
+        assertEquals( 100, sencilla.removeIntAt( 0 ), "removeIntAt debería retornar el valor eliminado" );
+        assertTrue( Arrays.equals( sencilla.toIntArray( ), new int[]{ 9, 8, 7, 60, 5, 4, 3, 2, 1, 0, 6, -2, -3, -4, -5, 6, 7, 8, 9 } ), "Los valores no son correctos" );
+    }
+
+    @Test
+    void testComoLista( )
+    {
+        List<Integer> copia = new ArrayList<>( sencilla );
+        assertEquals( copia, sencilla, "La lista debería ser igual a un ArrayList con los mismos valores" );
+        assertEquals( copia.hashCode( ), sencilla.hashCode( ), "El hashCode debería coincidir con el de un ArrayList" );
+        assertTrue( sencilla.contains( -5 ), "La lista debería contener el -5" );
+        assertFalse( sencilla.contains( "-5" ), "La lista no debería contener una cadena" );
+        assertEquals( 3, sencilla.indexOf( 6 ), "La posición del 6 no es correcta" );
+
+        vacia.add( 5 );
+        vacia.add( 0, 4 );
+        assertEquals( Arrays.asList( 4, 5 ), vacia, "Los métodos de List no agregaron los valores" );
+        vacia.remove( Integer.valueOf( 4 ) );
+        assertEquals( Arrays.asList( 5 ), vacia, "remove(Object) no eliminó el valor" );
+    }
+
+    @Test
+    void testForEachInt( )
+    {
+        int[] suma = new int[ 1 ];
+        sencilla.forEachInt( x -> suma[ 0 ] += x );
+        assertEquals( 67, suma[ 0 ], "forEachInt no recorrió todos los valores" );
+
+        try
+        {
+            sencilla.forEachInt( x -> sencilla.addInt( x ) );
+            fail( "Modificar la lista mientras se recorre debería lanzar ConcurrentModificationException" );
+        }
+        catch( ConcurrentModificationException e )
+        {
+            // esperado
+        }
+    }
+
+    @Test
+    void testIteradorFallaRapido( )
+    {
+        Iterator<Integer> it = sencilla.iterator( );
+        it.next( );
+        sencilla.addInt( 1 );
+        try
+        {
+            it.next( );
+            fail( "El iterador debería detectar la modificación" );
+        }
+        catch( ConcurrentModificationException e )
+        {
+            // esperado
+        }
+    }
+
+    @Test
+    void testOrdenarEInvertir( )
+    {
+        sencilla.sortInts( );
+        assertEquals( -5, sencilla.getInt( 0 ), "La lista no quedó ordenada" );
+        sencilla.reverse( );
+        assertEquals( 9, sencilla.getInt( 0 ), "La lista no quedó invertida" );
+        assertEquals( -5, sencilla.getInt( sencilla.size( ) - 1 ), "La lista no quedó invertida" );
+    }
+
+    @Test
+    void testRemoveIntIf( )
+    {
+        assertTrue( sencilla.removeIntIf( x -> x < 0 ), "removeIntIf debería indicar que eliminó valores" );
+        assertArrayEquals( new int[]{ 9, 8, 7, 6, 5, 4, 3, 2, 1, 0, 6, 6, 7, 8, 9 }, sencilla.toIntArray( ), "No se eliminaron los valores correctos" );
+        assertFalse( sencilla.removeIntIf( x -> x > 100 ), "removeIntIf no debería indicar cambios si no eliminó nada" );
+        assertTrue( sencilla.removeIf( x -> x % 5 == 0 ), "removeIf debería indicar que eliminó valores" );
+        assertArrayEquals( new int[]{ 9, 8, 7, 6, 4, 3, 2, 1, 6, 6, 7, 8, 9 }, sencilla.toIntArray( ), "removeIf no eliminó los valores correctos" );
+    }
+
+    @Test
+    void testRecorridosPrimitivos( )
+    {
+        assertEquals( 3, sencilla.countInts( x -> x == 6 ), "countInts no contó bien las apariciones" );
+        assertEquals( 4, sencilla.countInts( x -> x < 0 ), "countInts no contó bien los negativos" );
+        assertEquals( 67, sencilla.reduceInts( 0, Integer::sum ), "reduceInts no sumó bien los valores" );
+        assertEquals( 9, sencilla.reduceInts( Integer.MIN_VALUE, Math::max ), "reduceInts no encontró el máximo" );
+
+        assertTrue( sencilla.equalsIntArray( enterosSencillos ), "equalsIntArray debería aceptar los mismos valores" );
+        assertFalse( sencilla.equalsIntArray( new int[]{ 9, 8, 7 } ), "equalsIntArray no debería aceptar un prefijo" );
+        assertFalse( sencilla.equalsIntArray( null ), "equalsIntArray no debería aceptar null" );
+
+        sencilla.replaceAllInts( Math::abs );
+        assertEquals( 0, sencilla.countInts( x -> x < 0 ), "replaceAllInts no reemplazó todos los valores" );
+        assertEquals( 5, sencilla.getInt( 14 ), "replaceAllInts no conservó la posición de los valores" );
+    }
+
+}
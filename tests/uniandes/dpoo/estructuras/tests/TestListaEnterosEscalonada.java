@@ -0,0 +1,105 @@
+package uniandes.dpoo.estructuras.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uniandes.dpoo.estructuras.logica.ListaEnterosEscalonada;
+
+class TestListaEnterosEscalonada
+{
+    private ListaEnterosEscalonada sencilla;
+
+    private static final int[] enterosSencillos = new int[]{ 9, 8, 7, 6, 5, 4, 3, 2, 1, 0, 6, -2, -3, -4, -5, 6, 7, 8, 9 };
+
+    @BeforeEach
+    void setUp( ) throws Exception
+    {
+        sencilla = new ListaEnterosEscalonada( );
+        for( int i = 0; i < enterosSencillos.length; i++ )
+        {
+            sencilla.addInt( enterosSencillos[ i ] );
+        }
+    }
+
+    @AfterEach
+    void reset( )
+    {
+        sencilla = null;
+    }
+
+    @Test
+    void testAccesoPrimitivo( )
+    {
+        assertEquals( enterosSencillos.length, sencilla.size( ), "La cantidad de enteros no es correcta" );
+        for( int i = 0; i < enterosSencillos.length; i++ )
+            assertEquals( enterosSencillos[ i ], sencilla.getInt( i ), "El entero en la posición " + i + " no es correcto" );
+        assertArrayEquals( enterosSencillos, sencilla.toIntArray( ), "toIntArray no retornó los enteros en orden" );
+    }
+
+    @Test
+    void testInsertarYEliminarEnMedio( )
+    {
+        sencilla.addInt( 0, 100 );
+        sencilla.addInt( 10, 200 );
+        sencilla.addInt( sencilla.size( ), 300 );
+        assertEquals( 100, sencilla.getInt( 0 ), "No se insertó al inicio" );
+        assertEquals( 200, sencilla.getInt( 10 ), "No se insertó en medio" );
+        assertEquals( 300, sencilla.getInt( sencilla.size( ) - 1 ), "No se insertó al final" );
+
+        assertEquals( 200, sencilla.removeIntAt( 10 ), "removeIntAt debería retornar el valor eliminado" );
+        assertEquals( 100, sencilla.removeIntAt( 0 ), "removeIntAt debería retornar el valor eliminado" );
+        assertEquals( 300, sencilla.removeIntAt( sencilla.size( ) - 1 ), "removeIntAt debería retornar el valor eliminado" );
+        assertArrayEquals( enterosSencillos, sencilla.toIntArray( ), "La lista no volvió a su estado original" );
+    }
+
+    @Test
+    void testOperacionesAleatorias( )
+    {
+        // suficientes operaciones para que los bloques crezcan y se encojan varias veces
+        Random aleatorio = new Random( 42 );
+        List<Integer> modelo = new ArrayList<>( );
+        ListaEnterosEscalonada lista = new ListaEnterosEscalonada( );
+        for( int paso = 0; paso < 40000; paso++ )
+        {
+            boolean insertar = modelo.isEmpty( ) || aleatorio.nextInt( 100 ) < ( paso < 20000 ? 70 : 30 );
+            if( insertar )
+            {
+                int posicion = aleatorio.nextInt( modelo.size( ) + 1 );
+                int valor = aleatorio.nextInt( );
+                modelo.add( posicion, valor );
+                lista.addInt( posicion, valor );
+            }
+            else
+            {
+                int posicion = aleatorio.nextInt( modelo.size( ) );
+                assertEquals( ( int )modelo.remove( posicion ), lista.removeIntAt( posicion ), "removeIntAt no retornó el valor correcto" );
+            }
+        }
+        assertEquals( modelo, lista, "La lista no coincide con el modelo después de las operaciones" );
+    }
+
+    @Test
+    void testOperacionesEnBloque( )
+    {
+        sencilla.sortInts( );
+        for( int i = 1; i < sencilla.size( ); i++ )
+            assertTrue( sencilla.getInt( i - 1 ) <= sencilla.getInt( i ), "La lista no quedó ordenada" );
+
+        assertTrue( sencilla.removeIntIf( x -> x < 0 ), "removeIntIf debería indicar que eliminó valores" );
+        assertEquals( 15, sencilla.size( ), "removeIntIf no eliminó los negativos" );
+        sencilla.reverse( );
+        assertEquals( 9, sencilla.getInt( 0 ), "reverse no invirtió la lista" );
+        assertEquals( 3, sencilla.countInts( x -> x == 6 ), "countInts no contó bien las apariciones" );
+        sencilla.clear( );
+        assertEquals( 0, sencilla.size( ), "clear no vació la lista" );
+    }
+}
@@ -0,0 +1,108 @@
+package uniandes.dpoo.estructuras.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uniandes.dpoo.estructuras.logica.MapaFrecuencias;
+
+class TestMapaFrecuencias
+{
+    private MapaFrecuencias sencillo;
+    private MapaFrecuencias vacio;
+
+    private static final int[] enterosSencillos = new int[]{ 9, 8, 7, 6, 5, 4, 3, 2, 1, 0, 6, -2, -3, -4, -5, 6, 7, 8, 9 };
+
+    @BeforeEach
+    void setUp( ) throws Exception
+    {
+        sencillo = MapaFrecuencias.contar( enterosSencillos, enterosSencillos.length );
+        vacio = new MapaFrecuencias( );
+    }
+
+    @AfterEach
+    void reset( )
+    {
+        sencillo = null;
+        vacio = null;
+    }
+
+    @Test
+    void testContar( )
+    {
+        assertEquals( 14, sencillo.size( ), "La cantidad de llaves distintas no es correcta" );
+        assertEquals( 3, sencillo.get( 6 ), "La frecuencia del 6 no es correcta" );
+        assertEquals( 2, sencillo.get( 9 ), "La frecuencia del 9 no es correcta" );
+        assertEquals( 1, sencillo.get( -5 ), "La frecuencia del -5 no es correcta" );
+        assertEquals( 0, sencillo.get( 100 ), "Un valor ausente debería tener frecuencia 0" );
+        assertEquals( 4, sencillo.contarConFrecuenciaMinima( 2 ), "No contó correctamente los valores repetidos" );
+    }
+
+    @Test
+    void testVacio( )
+    {
+        assertTrue( vacio.isEmpty( ), "La tabla debería estar vacía" );
+        assertEquals( 0, vacio.get( 0 ), "Una tabla vacía no debería tener frecuencias" );
+        assertEquals( 0, vacio.contarConFrecuenciaMinima( 1 ), "Una tabla vacía no debería tener repetidos" );
+        assertTrue( vacio.comoHashMap( ).isEmpty( ), "La copia de una tabla vacía debería estar vacía" );
+    }
+
+    @Test
+    void testCrecer( )
+    {
+        for( int i = 0; i < 100000; i++ )
+        {
+            vacio.incrementar( i * 31 );
+            vacio.incrementar( i * 31 );
+        }
+        assertEquals( 100000, vacio.size( ), "La cantidad de llaves distintas no es correcta" );
+        assertEquals( 2, vacio.get( 99999 * 31 ), "Se perdió una frecuencia al crecer" );
+        assertEquals( 100000, vacio.contarConFrecuenciaMinima( 2 ), "Se perdieron frecuencias al crecer" );
+        assertFalse( vacio.isEmpty( ), "La tabla no debería estar vacía" );
+    }
+
+    @Test
+    void testSumarTodoYComoHashMap( )
+    {
+        MapaFrecuencias otro = new MapaFrecuencias( );
+        otro.sumar( 6, 5 );
+        otro.incrementar( 100 );
+        sencillo.sumarTodo( otro );
+
+        HashMap<Integer, Integer> h = sencillo.comoHashMap( );
+        assertEquals( 15, h.size( ), "La cantidad de llaves no es correcta" );
+        assertEquals( 8, h.get( 6 ), "No se sumaron las frecuencias del 6" );
+        assertEquals( 1, h.get( 100 ), "No se agregó la llave nueva" );
+    }
+
+    @Test
+    void testDecrementarYEliminar( )
+    {
+        assertEquals( 2, sencillo.decrementar( 6 ), "La frecuencia del 6 no disminuyó" );
+        assertEquals( 0, sencillo.decrementar( -5 ), "La frecuencia del -5 debería llegar a 0" );
+        assertEquals( 13, sencillo.size( ), "Una llave con frecuencia 0 debería salir de la tabla" );
+        assertEquals( -1, sencillo.decrementar( -5 ), "Decrementar una llave ausente debería retornar -1" );
+        assertEquals( 2, sencillo.eliminar( 9 ), "Eliminar debería retornar la frecuencia anterior" );
+        assertEquals( 0, sencillo.get( 9 ), "La llave eliminada no debería seguir en la tabla" );
+        assertEquals( 0, sencillo.eliminar( 9 ), "Eliminar una llave ausente debería retornar 0" );
+    }
+
+    @Test
+    void testEliminarConservaRacimos( )
+    {
+        for( int i = 0; i < 5000; i++ )
+            vacio.incrementar( i );
+        for( int i = 0; i < 5000; i += 2 )
+            vacio.eliminar( i );
+        assertEquals( 2500, vacio.size( ), "La cantidad de llaves no es correcta" );
+        for( int i = 0; i < 5000; i++ )
+            assertEquals( i % 2, vacio.get( i ), "Se perdió una llave al eliminar otra del mismo racimo" );
+    }
+
+}
@@ -7,13 +7,17 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.util.Arrays;
+import java.util.ConcurrentModificationException;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import uniandes.dpoo.estructuras.logica.ModoEjecucion;
 import uniandes.dpoo.estructuras.logica.SandboxArreglos;
 
 class TestSandboxArreglos
@@ -719,4 +723,417 @@ class TestSandboxArreglos
             fail( "Los valores no están bien distribuidos" );
     }
 
+    @Test
+    void testCapacidadCreceGeometricamente( )
+    {
+        int cambios = 0;
+        int capacidadAnterior = vacio.getCapacidadEnteros( );
+        for( int i = 0; i < 100000; i++ )
+        {
+            vacio.agregarEntero( i );
+            if( vacio.getCapacidadEnteros( ) != capacidadAnterior )
+            {
+                cambios++;
+                capacidadAnterior = vacio.getCapacidadEnteros( );
+            }
+        }
+
+        assertEquals( 100000, vacio.getCantidadEnteros( ), "La cantidad de enteros no es correcta" );
+        assertTrue( cambios < 40, "El arreglo creció demasiadas veces: " + cambios );
+        assertEquals( 99999, vacio.getCopiaEnteros( )[ 99999 ], "El último entero no quedó al final" );
+    }
+
+    @Test
+    void testAsegurarYAjustarCapacidad( )
+    {
+        sencillo.asegurarCapacidadEnteros( 1000 );
+        sencillo.asegurarCapacidadCadenas( 1000 );
+        assertTrue( sencillo.getCapacidadEnteros( ) >= 1000, "No se reservó la capacidad de enteros pedida" );
+        assertTrue( sencillo.getCapacidadCadenas( ) >= 1000, "No se reservó la capacidad de cadenas pedida" );
+        assertEquals( enterosSencillos.length, sencillo.getCantidadEnteros( ), "Reservar capacidad no debería cambiar la cantidad" );
+
+        sencillo.ajustarCapacidad( );
+        assertEquals( enterosSencillos.length, sencillo.getCapacidadEnteros( ), "La capacidad de enteros no se ajustó" );
+        assertEquals( cadenasSencillas.length, sencillo.getCapacidadCadenas( ), "La capacidad de cadenas no se ajustó" );
+        assertEquals( cadenasSencillas.length, sencillo.getCopiaCadenas( ).length, "Ajustar la capacidad no debería cambiar las cadenas" );
+    }
+
+    @Test
+    void testAgregarEnteros( )
+    {
+        sencillo.agregarEnteros( new int[]{ 100, 200, 300 } );
+
+        int[] copia = sencillo.getCopiaEnteros( );
+        assertEquals( enterosSencillos.length + 3, copia.length, "La cantidad de enteros no aumentó correctamente" );
+        assertEquals( 100, copia[ enterosSencillos.length ], "Los enteros no quedaron al final" );
+        assertEquals( 300, copia[ enterosSencillos.length + 2 ], "Los enteros no quedaron en orden" );
+
+        vacio.agregarEnteros( null );
+        assertEquals( 0, vacio.getCantidadEnteros( ), "Agregar null no debería cambiar el arreglo" );
+    }
+
+    @Test
+    void testInsertarEnteros( )
+    {
+        sinRepetidos.insertarEnteros( new int[]{ 100, 200 }, 3 );
+        int[] copia = sinRepetidos.getCopiaEnteros( );
+        assertEquals( enterosSinRepetidos.length + 2, copia.length, "La cantidad de enteros no aumentó correctamente" );
+        assertEquals( 7, copia[ 2 ], "Los valores anteriores a la posición no deberían moverse" );
+        assertEquals( 100, copia[ 3 ], "Los enteros no quedaron en la posición indicada" );
+        assertEquals( 200, copia[ 4 ], "Los enteros no quedaron en orden" );
+        assertEquals( 6, copia[ 5 ], "Los valores siguientes no se corrieron correctamente" );
+
+        sinRepetidos.insertarEnteros( new int[]{ -1, -2 }, -10 );
+        assertEquals( -1, sinRepetidos.getCopiaEnteros( )[ 0 ], "Una posición negativa debería insertar al inicio" );
+
+        sinRepetidos.insertarEnteros( new int[]{ 77, 88 }, 1000 );
+        copia = sinRepetidos.getCopiaEnteros( );
+        assertEquals( 88, copia[ copia.length - 1 ], "Una posición muy grande debería insertar al final" );
+    }
+
+    @Test
+    void testInsertarCadenas( )
+    {
+        sencillo.insertarCadenas( new String[]{ "x", "y" }, 1 );
+        String[] copia = sencillo.getCopiaCadenas( );
+        assertEquals( cadenasSencillas.length + 2, copia.length, "La cantidad de cadenas no aumentó correctamente" );
+        assertEquals( "a", copia[ 0 ], "Los valores anteriores a la posición no deberían moverse" );
+        assertEquals( "x", copia[ 1 ], "Las cadenas no quedaron en la posición indicada" );
+        assertEquals( "y", copia[ 2 ], "Las cadenas no quedaron en orden" );
+        assertEquals( "b", copia[ 3 ], "Los valores siguientes no se corrieron correctamente" );
+
+        vacio.agregarCadenas( new String[]{ "m", "n" } );
+        assertEquals( 2, vacio.getCantidadCadenas( ), "No se agregaron las cadenas al sandbox vacío" );
+    }
+
+    @Test
+    void testEliminacionPerezosa( )
+    {
+        SandboxArreglos perezoso = new SandboxArreglos( );
+        perezoso.agregarEnteros( new int[]{ 9, 8, 7, 6, 5, 4, 3, 2, 1, 0, 6, -2, -3, -4, -5, 6, 7, 8, 9 } );
+        perezoso.setFraccionCompactacion( 1 );
+        perezoso.setEliminacionPerezosa( true );
+
+        perezoso.eliminarEntero( 6 );
+        perezoso.eliminarEnteroPorPosicion( 0 );
+
+        assertTrue( perezoso.getCantidadEliminadosPendientes( ) > 0, "Las eliminaciones deberían haber quedado pendientes" );
+        int[] esperados = new int[]{ 8, 7, 5, 4, 3, 2, 1, 0, -2, -3, -4, -5, 7, 8, 9 };
+        assertEquals( esperados.length, perezoso.getCantidadEnteros( ), "La cantidad de enteros no es correcta" );
+        assertTrue( perezoso.compararArregloEnteros( esperados ), "Los enteros eliminados no se saltaron: " + Arrays.toString( perezoso.getCopiaEnteros( ) ) );
+        assertEquals( 0, perezoso.contarApariciones( 6 ), "Se contaron enteros eliminados" );
+        assertEquals( 1, perezoso.contarApariciones( 9 ), "No se saltó el entero eliminado por posición" );
+        assertEquals( 11, perezoso.buscarEntero( -5 )[ 0 ], "La posición retornada debería ignorar las posiciones eliminadas" );
+        assertEquals( 9, perezoso.calcularRangoEnteros( )[ 1 ], "El rango no debería considerar enteros eliminados" );
+
+        perezoso.insertarEntero( 100, 1 );
+        assertEquals( 0, perezoso.getCantidadEliminadosPendientes( ), "Insertar en medio debería compactar el arreglo" );
+        assertEquals( 100, perezoso.getCopiaEnteros( )[ 1 ], "El entero no quedó en la posición indicada" );
+    }
+
+    @Test
+    void testEliminacionPerezosaCompacta( )
+    {
+        sinRepetidos.setFraccionCompactacion( 0.5 );
+        sinRepetidos.setEliminacionPerezosa( true );
+
+        for( int i = 0; i < 4; i++ )
+            sinRepetidos.eliminarEnteroPorPosicion( 1 );
+        assertEquals( 4, sinRepetidos.getCantidadEliminadosPendientes( ), "Aún no se debería haber compactado" );
+        assertTrue( sinRepetidos.compararArregloEnteros( new int[]{ 9, 4, 3, 2, 1, 0 } ), "No se eliminaron las posiciones correctas" );
+
+        sinRepetidos.eliminarEnteroPorPosicion( 1 );
+        assertEquals( 0, sinRepetidos.getCantidadEliminadosPendientes( ), "Se debería haber compactado al superar la fracción" );
+        assertTrue( sinRepetidos.compararArregloEnteros( new int[]{ 9, 3, 2, 1, 0 } ), "La compactación no conservó el orden" );
+    }
+
+    @Test
+    void testModoParalelo( )
+    {
+        SandboxArreglos grande = new SandboxArreglos( );
+        grande.generarEnteros( 5000, -50, 50 );
+        int[] rango = grande.calcularRangoEnteros( );
+        HashMap<Integer, Integer> histograma = grande.calcularHistograma( );
+        int repetidos = grande.contarEnterosRepetidos( );
+        int ceros = grande.contarApariciones( 0 );
+
+        grande.setModoEjecucion( ModoEjecucion.PARALELO );
+        grande.setUmbralParalelo( 64 );
+
+        assertEquals( ModoEjecucion.PARALELO, grande.getModoEjecucion( ), "El modo de ejecución no cambió" );
+        assertTrue( Arrays.equals( rango, grande.calcularRangoEnteros( ) ), "El rango en paralelo no coincide con el secuencial" );
+        assertEquals( histograma, grande.calcularHistograma( ), "El histograma en paralelo no coincide con el secuencial" );
+        assertEquals( repetidos, grande.contarEnterosRepetidos( ), "Los repetidos en paralelo no coinciden con el secuencial" );
+        assertEquals( ceros, grande.contarApariciones( 0 ), "El conteo en paralelo no coincide con el secuencial" );
+    }
+
+    @Test
+    void testModoParaleloPequeno( )
+    {
+        SandboxArreglos pequeno = new SandboxArreglos( );
+        pequeno.agregarEnteros( new int[]{ 4, -7, 6, 6, 12, 0, 6, 4, 3 } );
+        pequeno.setModoEjecucion( ModoEjecucion.PARALELO );
+        pequeno.setUmbralParalelo( 1 );
+
+        int[] rango = pequeno.calcularRangoEnteros( );
+        assertEquals( -7, rango[ 0 ], "El menor valor del rango no es el correcto" );
+        assertEquals( 12, rango[ 1 ], "El mayor valor del rango no es el correcto" );
+        assertEquals( 3, pequeno.contarApariciones( 6 ), "El número de apariciones no es correcto" );
+        assertEquals( 2, pequeno.contarEnterosRepetidos( ), "El número de repetidos no es correcto" );
+    }
+
+    @Test
+    void testOrganizarEnterosRangoAngosto( )
+    {
+        SandboxArreglos grande = new SandboxArreglos( );
+        grande.generarEnteros( 10000, -20, 20 );
+        int[] esperado = grande.getCopiaEnteros( );
+        Arrays.sort( esperado );
+
+        grande.organizarEnteros( );
+        assertTrue( grande.compararArregloEnteros( esperado ), "Los enteros no quedaron ordenados" );
+    }
+
+    @Test
+    void testOrganizarEnterosRangoAmplio( )
+    {
+        SandboxArreglos grande = new SandboxArreglos( );
+        for( int i = 0; i < 100000; i++ )
+            grande.agregarEntero( ( i * 0x9E3779B9 ) ^ ( i >>> 3 ) );
+        grande.agregarEnteros( new int[]{ Integer.MIN_VALUE, Integer.MAX_VALUE, 0, -1 } );
+        int[] esperado = grande.getCopiaEnteros( );
+        Arrays.sort( esperado );
+
+        grande.organizarEnteros( );
+        assertTrue( grande.compararArregloEnteros( esperado ), "Los enteros no quedaron ordenados" );
+    }
+
+    @Test
+    void testOrganizarCadenasPrefijosComunes( )
+    {
+        String[] cadenas = new String[ 3000 ];
+        for( int i = 0; i < cadenas.length; i++ )
+            cadenas[ i ] = "prefijo/comun/" + ( i * 7919 % 1000 ) + ( i % 3 == 0 ? "" : "/x" + ( i % 5 ) );
+        String[] esperado = Arrays.copyOf( cadenas, cadenas.length );
+        Arrays.sort( esperado );
+
+        SandboxArreglos secuencial = new SandboxArreglos( );
+        secuencial.agregarCadenas( cadenas );
+        secuencial.organizarCadenas( );
+        assertTrue( Arrays.equals( esperado, secuencial.getCopiaCadenas( ) ), "Las cadenas no quedaron ordenadas" );
+
+        SandboxArreglos paralelo = new SandboxArreglos( );
+        paralelo.agregarCadenas( cadenas );
+        paralelo.setModoEjecucion( ModoEjecucion.PARALELO );
+        paralelo.setUmbralParalelo( 100 );
+        paralelo.organizarCadenas( );
+        assertTrue( Arrays.equals( esperado, paralelo.getCopiaCadenas( ) ), "Las cadenas no quedaron ordenadas en paralelo" );
+    }
+
+    @Test
+    void testOrganizarEnterosParalelo( )
+    {
+        SandboxArreglos grande = new SandboxArreglos( );
+        for( int i = 0; i < 20000; i++ )
+            grande.agregarEntero( i * 0x9E3779B9 );
+        int[] esperado = grande.getCopiaEnteros( );
+        Arrays.sort( esperado );
+
+        grande.setModoEjecucion( ModoEjecucion.PARALELO );
+        grande.setUmbralParalelo( 1000 );
+        grande.organizarEnteros( );
+        assertTrue( grande.compararArregloEnteros( esperado ), "Los enteros no quedaron ordenados en paralelo" );
+    }
+
+    @Test
+    void testConsultasSobreArregloOrdenado( )
+    {
+        SandboxArreglos ordenado = new SandboxArreglos( );
+        ordenado.agregarEnteros( new int[]{ 9, 8, 7, 6, 5, 4, 3, 2, 1, 0, 6, -2, -3, -4, -5, 6, 7, 8, 9 } );
+        assertFalse( ordenado.estanOrdenadosEnteros( ), "El arreglo no debería considerarse ordenado" );
+
+        ordenado.organizarEnteros( );
+        assertTrue( ordenado.estanOrdenadosEnteros( ), "Después de organizar el arreglo debería considerarse ordenado" );
+        assertEquals( 3, ordenado.contarApariciones( 6 ), "El número de apariciones no es correcto" );
+        assertEquals( 0, ordenado.contarApariciones( -1 ), "El número de apariciones no es correcto" );
+        assertTrue( Arrays.equals( new int[]{ 10, 11, 12 }, ordenado.buscarEntero( 6 ) ), "Las posiciones encontradas no son correctas" );
+        assertTrue( Arrays.equals( new int[]{ -5, 9 }, ordenado.calcularRangoEnteros( ) ), "El rango no es correcto" );
+        assertEquals( 4, ordenado.contarEnterosRepetidos( ), "El número de repetidos no es correcto" );
+
+        ordenado.agregarEntero( 20 );
+        assertTrue( ordenado.estanOrdenadosEnteros( ), "Agregar un valor mayor al último no desordena el arreglo" );
+        ordenado.insertarEntero( 100, 0 );
+        assertFalse( ordenado.estanOrdenadosEnteros( ), "Insertar un valor fuera de orden debería desordenar el arreglo" );
+        assertTrue( Arrays.equals( new int[]{ -5, 100 }, ordenado.calcularRangoEnteros( ) ), "El rango no es correcto" );
+    }
+
+    @Test
+    void testMismosEnterosMismaSumaDistintos( )
+    {
+        SandboxArreglos otro = new SandboxArreglos( );
+        otro.agregarEnteros( new int[]{ 1, 1, 4, 4 } );
+        assertFalse( otro.mismosEnteros( new int[]{ 2, 2, 3, 3 } ), "Arreglos con la misma suma pero distintos elementos no son iguales" );
+        assertFalse( otro.mismosEnteros( new int[]{ 1, 4, 4, 4 } ), "Arreglos con distintas frecuencias no son iguales" );
+        assertTrue( otro.mismosEnteros( new int[]{ 4, 1, 4, 1 } ), "No comparó correctamente los arreglos en orden diferente" );
+    }
+
+    @Test
+    void testHuellaEnteros( )
+    {
+        SandboxArreglos a = new SandboxArreglos( );
+        a.agregarEnteros( new int[]{ 5, -3, 8, 8, 0 } );
+        SandboxArreglos b = new SandboxArreglos( );
+        b.agregarEnteros( new int[]{ 8, 0, 5, 8, -3 } );
+        assertEquals( a.getHuellaEnteros( ), b.getHuellaEnteros( ), "La huella no debería depender del orden" );
+
+        b.eliminarEnteroPorPosicion( 0 );
+        b.agregarEntero( 7 );
+        assertFalse( a.getHuellaEnteros( ) == b.getHuellaEnteros( ), "Arreglos distintos deberían tener huellas distintas" );
+    }
+
+    @Test
+    void testGenerarEnterosConSemilla( )
+    {
+        SandboxArreglos otro = new SandboxArreglos( );
+        sencillo.generarEnteros( 50000, -1000, 1000, 42L );
+        otro.generarEnteros( 50000, -1000, 1000, 42L );
+        assertTrue( otro.compararArregloEnteros( sencillo.getCopiaEnteros( ) ), "La misma semilla debería generar los mismos enteros" );
+
+        otro.setModoEjecucion( ModoEjecucion.PARALELO );
+        otro.setUmbralParalelo( 1000 );
+        otro.generarEnteros( 50000, -1000, 1000, 42L );
+        assertTrue( otro.compararArregloEnteros( sencillo.getCopiaEnteros( ) ), "El modo paralelo debería generar los mismos enteros" );
+
+        int[] rango = otro.calcularRangoEnteros( );
+        assertEquals( -1000, rango[ 0 ], "El menor valor del rango no es el correcto" );
+        assertEquals( 1000, rango[ 1 ], "El mayor valor del rango no es el correcto" );
+    }
+
+    @Test
+    void testGenerarEnterosRangoCompleto( )
+    {
+        vacio.generarEnteros( 1000, Integer.MAX_VALUE, Integer.MIN_VALUE, 7L );
+        assertEquals( 1000, vacio.getCantidadEnteros( ), "La cantidad de elementos no es correcta" );
+
+        vacio.generarEnteros( 1000, Integer.MAX_VALUE - 1, Integer.MAX_VALUE, 7L );
+        int[] rango = vacio.calcularRangoEnteros( );
+        assertEquals( Integer.MAX_VALUE - 1, rango[ 0 ], "El menor valor del rango no es el correcto" );
+        assertEquals( Integer.MAX_VALUE, rango[ 1 ], "El mayor valor del rango no es el correcto" );
+    }
+
+    @Test
+    void testModoAutomatico( )
+    {
+        SandboxArreglos grande = new SandboxArreglos( );
+        grande.generarEnteros( 5000, -50, 50, 3L );
+        int[] rango = grande.calcularRangoEnteros( );
+        int repetidos = grande.contarEnterosRepetidos( );
+
+        grande.setModoEjecucion( ModoEjecucion.AUTOMATICO );
+        grande.setUmbralParalelo( 64 );
+        assertTrue( Arrays.equals( rango, grande.calcularRangoEnteros( ) ), "El rango en modo automático no coincide con el secuencial" );
+        assertEquals( repetidos, grande.contarEnterosRepetidos( ), "Los repetidos en modo automático no coinciden con el secuencial" );
+
+        grande.setPoolParalelo( new ForkJoinPool( 1 ) );
+        assertTrue( Arrays.equals( rango, grande.calcularRangoEnteros( ) ), "Con un solo hilo el rango debería calcularse igual" );
+    }
+
+    @Test
+    void testConteoIncremental( )
+    {
+        SandboxArreglos incremental = new SandboxArreglos( );
+        SandboxArreglos normal = new SandboxArreglos( );
+        incremental.agregarEnteros( new int[]{ 4, -4, 6, 6, 12, 0 } );
+        normal.agregarEnteros( new int[]{ 4, -4, 6, 6, 12, 0 } );
+        incremental.setConteoIncremental( true );
+        assertEquals( 1, incremental.contarEnterosRepetidos( ), "El conteo inicial de repetidos no es correcto" );
+
+        SandboxArreglos[] ambos = new SandboxArreglos[]{ incremental, normal };
+        for( SandboxArreglos s : ambos )
+        {
+            s.agregarEntero( 12 );
+            s.insertarEntero( 0, 2 );
+            s.eliminarEntero( 6 );
+            s.setEliminacionPerezosa( true );
+            s.eliminarEnteroPorPosicion( 0 );
+        }
+        assertEquals( normal.contarEnterosRepetidos( ), incremental.contarEnterosRepetidos( ), "Los repetidos no se mantuvieron al día" );
+        assertEquals( normal.contarApariciones( 12 ), incremental.contarApariciones( 12 ), "Las apariciones no se mantuvieron al día" );
+
+        for( SandboxArreglos s : ambos )
+            s.volverPositivos( );
+        assertEquals( normal.contarEnterosRepetidos( ), incremental.contarEnterosRepetidos( ), "Los repetidos no se actualizaron al volver positivos" );
+
+        for( SandboxArreglos s : ambos )
+            s.generarEnteros( 500, 0, 100, 5L );
+        assertEquals( normal.contarEnterosRepetidos( ), incremental.contarEnterosRepetidos( ), "Los repetidos no se actualizaron al generar" );
+
+        for( SandboxArreglos s : ambos )
+            s.reiniciarArregloEnteros( new double[]{ 1.5, 1.2, 3.0 } );
+        assertEquals( 1, incremental.contarEnterosRepetidos( ), "Los repetidos no se actualizaron al reiniciar" );
+        assertEquals( 2, incremental.contarApariciones( 1 ), "Las apariciones no se actualizaron al reiniciar" );
+    }
+
+    @Test
+    void testVistasSinCopia( )
+    {
+        SandboxArreglos arreglos = new SandboxArreglos( );
+        arreglos.agregarEnteros( new int[]{ 3, 1, 2 } );
+        arreglos.agregarCadenas( new String[]{ "b", "a" } );
+        List<Integer> enteros = arreglos.getVistaEnteros( );
+        List<String> cadenas = arreglos.getVistaCadenas( );
+        assertEquals( Arrays.asList( 3, 1, 2 ), enteros, "La vista no tiene los enteros del arreglo" );
+
+        arreglos.setEliminacionPerezosa( true );
+        arreglos.eliminarEntero( 1 );
+        arreglos.agregarCadena( "c" );
+        assertEquals( Arrays.asList( 3, 2 ), enteros, "La vista no refleja los cambios a los enteros" );
+        assertEquals( Arrays.asList( "b", "a", "c" ), cadenas, "La vista no refleja los cambios a las cadenas" );
+
+        Iterator<Integer> it = enteros.iterator( );
+        it.next( );
+        arreglos.agregarEntero( 7 );
+        try
+        {
+            it.next( );
+            fail( "El iterador de la vista debería fallar si el arreglo cambia" );
+        }
+        catch( ConcurrentModificationException e )
+        {
+            // Se esperaba esta excepción
+        }
+        try
+        {
+            cadenas.add( "x" );
+            fail( "La vista no debería permitir modificaciones" );
+        }
+        catch( UnsupportedOperationException e )
+        {
+            // Se esperaba esta excepción
+        }
+    }
+
+    @Test
+    void testInstantaneas( )
+    {
+        SandboxArreglos arreglos = new SandboxArreglos( );
+        arreglos.agregarEnteros( new int[]{ 3, 1, 2 } );
+        arreglos.agregarCadenas( new String[]{ "b", "a" } );
+        List<Integer> enteros = arreglos.getInstantaneaEnteros( );
+        List<String> cadenas = arreglos.getInstantaneaCadenas( );
+
+        arreglos.organizarEnteros( );
+        arreglos.insertarEntero( 9, 0 );
+        arreglos.organizarCadenas( );
+        arreglos.eliminarCadena( "a" );
+        assertEquals( Arrays.asList( 3, 1, 2 ), enteros, "La instantánea de enteros no debería cambiar" );
+        assertEquals( Arrays.asList( "b", "a" ), cadenas, "La instantánea de cadenas no debería cambiar" );
+        assertTrue( Arrays.equals( new int[]{ 9, 1, 2, 3 }, arreglos.getCopiaEnteros( ) ), "Los cambios después de la instantánea no se aplicaron" );
+        assertTrue( Arrays.equals( new String[]{ "b" }, arreglos.getCopiaCadenas( ) ), "Los cambios después de la instantánea no se aplicaron" );
+
+        List<Integer> otra = arreglos.getInstantaneaEnteros( );
+        arreglos.generarEnteros( 10, 0, 5 );
+        assertEquals( Arrays.asList( 9, 1, 2, 3 ), otra, "La instantánea no debería cambiar al generar enteros" );
+    }
+
 }
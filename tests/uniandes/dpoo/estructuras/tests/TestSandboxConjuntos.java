@@ -3,12 +3,14 @@ package uniandes.dpoo.estructuras.tests;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.NavigableSet;
 import java.util.TreeSet;
 
 import org.junit.jupiter.api.AfterEach;
@@ -16,6 +18,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import uniandes.dpoo.estructuras.logica.SandboxConjuntos;
+import uniandes.dpoo.estructuras.logica.TipoConjuntoCadenas;
 
 class TestSandboxConjuntos
 {
@@ -354,4 +357,191 @@ class TestSandboxConjuntos
         assertFalse( sencillo.compararElementos( cadenasMayusculasOrdenadas ), "No comparó correctamente los arreglos cuando eran diferentes" );
     }
 
+    @Test
+    void testIndiceSinMayusculas( )
+    {
+        SandboxConjuntos conjunto = new SandboxConjuntos( );
+        for( String cadena : new String[]{ "hola", "HOLA", "Hola", "mundo", "Straße" } )
+            conjunto.agregarCadena( cadena );
+
+        assertTrue( conjunto.contieneCadenaSinMayusculasOMinusculas( "hOlA" ), "Debería encontrar la cadena ignorando mayúsculas" );
+        assertEquals( "Straße".equalsIgnoreCase( "STRASSE" ), conjunto.contieneCadenaSinMayusculasOMinusculas( "STRASSE" ), "La búsqueda debería coincidir con equalsIgnoreCase" );
+        assertFalse( conjunto.contieneCadenaSinMayusculasOMinusculas( "adios" ), "No debería encontrar una cadena que no está" );
+
+        conjunto.eliminarCadenaSinMayusculasOMinusculas( "hola" );
+        assertEquals( Arrays.asList( "Hola", "Straße", "hola", "mundo" ), conjunto.getCadenasComoLista( ), "Debería eliminar la menor de las variantes" );
+        conjunto.eliminarCadena( "Hola" );
+        conjunto.eliminarCadenaSinMayusculasOMinusculas( "HOLA" );
+        assertFalse( conjunto.contieneCadenaSinMayusculasOMinusculas( "hola" ), "Deberían haberse eliminado todas las variantes" );
+
+        conjunto.reiniciarConjuntoCadenas( Arrays.asList( ( Object )"abc", "ABC" ) );
+        conjunto.eliminarPrimera( );
+        assertTrue( conjunto.contieneCadenaSinMayusculasOMinusculas( "Abc" ), "El índice no se actualizó al eliminar la primera" );
+        conjunto.volverMayusculas( );
+        conjunto.eliminarCadenaSinMayusculasOMinusculas( "abc" );
+        assertEquals( 0, conjunto.getCantidadCadenas( ), "El índice no se actualizó al volver mayúsculas" );
+    }
+
+
+    @Test
+    void testVistasSinCopia( )
+    {
+        SandboxConjuntos conjunto = new SandboxConjuntos( );
+        for( String cadena : new String[]{ "d", "b", "a", "c" } )
+            conjunto.agregarCadena( cadena );
+        NavigableSet<String> vista = conjunto.getVistaCadenas( );
+        NavigableSet<String> invertida = conjunto.getVistaCadenasInvertida( );
+        NavigableSet<String> siguientes = conjunto.getVistaSiguientes( "b" );
+
+        assertEquals( Arrays.asList( "a", "b", "c", "d" ), new ArrayList<String>( vista ), "La vista no tiene las cadenas esperadas" );
+        assertEquals( Arrays.asList( "d", "c", "b", "a" ), new ArrayList<String>( invertida ), "La vista invertida no tiene las cadenas esperadas" );
+        assertEquals( Arrays.asList( "b", "c", "d" ), new ArrayList<String>( siguientes ), "La vista de siguientes no tiene las cadenas esperadas" );
+
+        conjunto.agregarCadena( "e" );
+        conjunto.volverMayusculas( );
+        assertEquals( "E", invertida.first( ), "La vista invertida no refleja los cambios" );
+        assertEquals( 5, vista.size( ), "La vista no refleja los cambios" );
+        assertTrue( siguientes.isEmpty( ), "La vista de siguientes no refleja los cambios" );
+        assertThrows( UnsupportedOperationException.class, ( ) -> vista.add( "x" ), "La vista no debería poderse modificar" );
+        assertThrows( UnsupportedOperationException.class, ( ) -> invertida.pollFirst( ), "La vista no debería poderse modificar" );
+    }
+
+    @Test
+    void testGetSiguientesPaginado( )
+    {
+        SandboxConjuntos conjunto = new SandboxConjuntos( );
+        for( String cadena : new String[]{ "a", "b", "c", "d", "e" } )
+            conjunto.agregarCadena( cadena );
+
+        List<String> pagina = conjunto.getSiguientes( "b", 2 );
+        assertEquals( Arrays.asList( "b", "c" ), pagina, "La primera página no es correcta" );
+        pagina = conjunto.getDespuesDe( pagina.get( pagina.size( ) - 1 ), 2 );
+        assertEquals( Arrays.asList( "d", "e" ), pagina, "La segunda página no es correcta" );
+        assertEquals( 0, conjunto.getDespuesDe( "e", 2 ).size( ), "Después de la última no debería haber más cadenas" );
+        assertEquals( 0, conjunto.getSiguientes( "a", 0 ).size( ), "Con límite 0 no debería retornar cadenas" );
+        assertEquals( 0, new SandboxConjuntos( ).getSiguientes( "a", 3 ).size( ), "El conjunto vacío no tiene siguientes" );
+        assertThrows( IllegalArgumentException.class, ( ) -> conjunto.getSiguientes( "a", -1 ), "Un límite negativo debería fallar" );
+    }
+
+    @Test
+    void testInvertirCadenasOrden( )
+    {
+        SandboxConjuntos conjunto = new SandboxConjuntos( );
+        for( String cadena : new String[]{ "b", "a", "c" } )
+            conjunto.agregarCadena( cadena );
+
+        TreeSet<String> invertido = conjunto.invertirCadenas( );
+        assertEquals( Arrays.asList( "c", "b", "a" ), new ArrayList<String>( invertido ), "El conjunto invertido no tiene el orden esperado" );
+        invertido.add( "bb" );
+        assertEquals( Arrays.asList( "c", "bb", "b", "a" ), new ArrayList<String>( invertido ), "El conjunto invertido debería seguir ordenado de mayor a menor" );
+        assertEquals( 3, conjunto.getCantidadCadenas( ), "Modificar el conjunto invertido no debería cambiar el sandbox" );
+    }
+
+
+    @Test
+    void testReiniciarConjuntoCadenasEnBloque( )
+    {
+        SandboxConjuntos conjunto = new SandboxConjuntos( );
+        conjunto.reiniciarConjuntoCadenas( Arrays.asList( ( Object )"b", 3, "a", null, "b", 10, "a" ) );
+        assertEquals( Arrays.asList( "10", "3", "a", "b", "null" ), conjunto.getCadenasComoLista( ), "El conjunto no quedó ordenado y sin repetidos" );
+
+        conjunto.reiniciarConjuntoCadenas( Arrays.asList( ( Object )"a", "a", "b", "c" ) );
+        assertEquals( Arrays.asList( "a", "b", "c" ), conjunto.getCadenasComoLista( ), "No se quitaron los repetidos de una lista ordenada" );
+        conjunto.agregarCadena( "bb" );
+        assertEquals( Arrays.asList( "a", "b", "bb", "c" ), conjunto.getCadenasComoLista( ), "El árbol cargado no admite inserciones en orden" );
+
+        List<Object> grande = new ArrayList<Object>( );
+        for( int i = 0; i < 200000; i++ )
+            grande.add( ( i * 7919 ) % 100000 );
+        conjunto.reiniciarConjuntoCadenas( grande );
+        assertEquals( 100000, conjunto.getCantidadCadenas( ), "No se quitaron los repetidos de una lista grande" );
+        List<String> cadenas = conjunto.getCadenasComoLista( );
+        for( int i = 1; i < cadenas.size( ); i++ )
+            assertTrue( cadenas.get( i - 1 ).compareTo( cadenas.get( i ) ) < 0, "El conjunto grande no quedó ordenado" );
+
+        conjunto.reiniciarConjuntoCadenas( null );
+        assertEquals( 0, conjunto.getCantidadCadenas( ), "Reiniciar con null debería dejar el conjunto vacío" );
+    }
+
+
+    @Test
+    void testConjuntoArregloOrdenado( )
+    {
+        SandboxConjuntos arbol = new SandboxConjuntos( TipoConjuntoCadenas.ARBOL );
+        SandboxConjuntos arreglo = new SandboxConjuntos( TipoConjuntoCadenas.ARREGLO_ORDENADO );
+        List<Object> objetos = Arrays.asList( ( Object )"pera", "Manzana", 7, "uva", "pera", "Uva" );
+        arbol.reiniciarConjuntoCadenas( objetos );
+        arreglo.reiniciarConjuntoCadenas( objetos );
+        assertEquals( arbol.getCadenasComoLista( ), arreglo.getCadenasComoLista( ), "Ambas implementaciones deberían tener las mismas cadenas" );
+
+        for( SandboxConjuntos conjunto : new SandboxConjuntos[]{ arbol, arreglo } )
+        {
+            conjunto.agregarCadena( "kiwi" );
+            conjunto.eliminarCadenaSinMayusculasOMinusculas( "UVA" );
+            conjunto.eliminarPrimera( );
+        }
+        assertEquals( Arrays.asList( "Manzana", "kiwi", "pera", "uva" ), arreglo.getCadenasComoLista( ), "El arreglo ordenado no tiene las cadenas esperadas" );
+        assertEquals( arbol.getCadenasComoLista( ), arreglo.getCadenasComoLista( ), "Ambas implementaciones deberían coincidir después de modificarlas" );
+        assertEquals( "kiwi", arreglo.getSiguientes( "k" ).iterator( ).next( ), "getSiguientes no es correcto" );
+        assertEquals( Arrays.asList( "uva", "pera", "kiwi", "Manzana" ), new ArrayList<String>( arreglo.invertirCadenas( ) ), "invertirCadenas no es correcto" );
+        assertTrue( arreglo.compararElementos( new String[]{ "pera", "kiwi" } ), "Debería contener las cadenas" );
+    }
+
+
+    @Test
+    void testFaltantesYEnComun( )
+    {
+        SandboxConjuntos conjunto = new SandboxConjuntos( );
+        for( String cadena : new String[]{ "a", "b", "c", "d" } )
+            conjunto.agregarCadena( cadena );
+        String[] otro = new String[]{ "z", "b", "x", "b", "a", "z" };
+
+        assertFalse( conjunto.compararElementos( otro ), "No todas las cadenas están en el conjunto" );
+        assertEquals( Arrays.asList( "x", "z" ), conjunto.getCadenasFaltantes( otro ), "Las cadenas faltantes no son correctas" );
+        assertEquals( 2, conjunto.contarCadenasEnComun( otro ), "La cantidad de cadenas en común no es correcta" );
+        assertEquals( "z", otro[ 0 ], "No se debería modificar el arreglo recibido" );
+        assertEquals( 0, conjunto.getCadenasFaltantes( null ).size( ), "Con null no falta ninguna cadena" );
+        assertEquals( 0, conjunto.contarCadenasEnComun( null ), "Con null no hay cadenas en común" );
+    }
+
+    @Test
+    void testCompararElementosArreglosGrandes( )
+    {
+        for( TipoConjuntoCadenas tipo : TipoConjuntoCadenas.values( ) )
+        {
+            SandboxConjuntos conjunto = new SandboxConjuntos( tipo );
+            List<Object> pares = new ArrayList<Object>( );
+            for( int i = 0; i < 100000; i += 2 )
+                pares.add( i );
+            conjunto.reiniciarConjuntoCadenas( pares );
+
+            // 500 cadenas se buscan una por una; 20000 se ordenan y se mezclan; 80000 además se ordenan en paralelo
+            for( int cantidad : new int[]{ 500, 20000, 80000 } )
+            {
+                String[] todasPares = new String[ cantidad ];
+                String[] algunasImpares = new String[ cantidad ];
+                for( int i = 0; i < cantidad; i++ )
+                {
+                    todasPares[ i ] = Integer.toString( ( i * 7 % cantidad ) * 2 % 100000 );
+                    algunasImpares[ i ] = Integer.toString( i * 3 % 100000 );
+                }
+                assertTrue( conjunto.compararElementos( todasPares ), "Todas las cadenas pares están en el conjunto" );
+                assertFalse( conjunto.compararElementos( algunasImpares ), "Hay cadenas impares que no están en el conjunto" );
+
+                TreeSet<String> distintas = new TreeSet<String>( Arrays.asList( algunasImpares ) );
+                List<String> faltantes = new ArrayList<String>( );
+                int comunes = 0;
+                for( String cadena : distintas )
+                {
+                    if( Integer.parseInt( cadena ) % 2 == 0 )
+                        comunes++;
+                    else
+                        faltantes.add( cadena );
+                }
+                assertEquals( faltantes, conjunto.getCadenasFaltantes( algunasImpares ), "Las cadenas faltantes no son correctas" );
+                assertEquals( comunes, conjunto.contarCadenasEnComun( algunasImpares ), "La cantidad de cadenas en común no es correcta" );
+            }
+        }
+    }
+
 }
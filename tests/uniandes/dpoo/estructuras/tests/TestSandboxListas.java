@@ -7,13 +7,20 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import uniandes.dpoo.estructuras.logica.DistribucionEnteros;
+import uniandes.dpoo.estructuras.logica.ModoEjecucion;
 import uniandes.dpoo.estructuras.logica.SandboxListas;
+import uniandes.dpoo.estructuras.logica.TipoListaCadenas;
+import uniandes.dpoo.estructuras.logica.TipoListaEnteros;
 
 class TestSandboxListas
 {
@@ -659,4 +666,312 @@ class TestSandboxListas
             fail( "Los valores no están bien distribuidos" );
     }
 
+    @Test
+    void testGenerarEnterosConSemilla( )
+    {
+        SandboxListas otro = new SandboxListas( );
+        sencillo.generarEnteros( 1000, -10, 10, 42L );
+        otro.generarEnteros( 1000, -10, 10, 42L );
+
+        assertEquals( 1000, otro.getCantidadEnteros( ), "La cantidad de elementos no es correcta" );
+        assertTrue( otro.compararArregloEnteros( sencillo.getEnterosComoArreglo( ) ), "La misma semilla debería generar los mismos enteros" );
+    }
+
+    @Test
+    void testTiposListaCadenas( )
+    {
+        for( TipoListaCadenas tipo : TipoListaCadenas.values( ) )
+        {
+            SandboxListas sandbox = new SandboxListas( tipo );
+            for( int i = 0; i < cadenasSencillas.length; i++ )
+            {
+                sandbox.agregarCadena( cadenasSencillas[ i ] );
+            }
+            sandbox.eliminarCadena( "d" );
+            assertEquals( cadenasSencillas.length - 2, sandbox.getCantidadCadenas( ), "No se eliminaron las cadenas con " + tipo );
+            assertEquals( 2, sandbox.contarApariciones( "A" ), "No se contaron las cadenas con " + tipo );
+
+            sandbox.organizarCadenas( );
+            assertEquals( Arrays.asList( "a", "a", "b", "b", "c", "c", "e" ), sandbox.getCopiaCadenas( ), "Las cadenas no quedaron ordenadas con " + tipo );
+        }
+    }
+
+    @Test
+    void testEliminarEnteros( )
+    {
+        SandboxListas lista = new SandboxListas( );
+        int[] valores = new int[]{ 6, 1, 9, 6, 8, 9, 6, 8 };
+        for( int valor : valores )
+            lista.agregarEntero( valor );
+
+        lista.eliminarEnteros( new int[]{ 6, 9, 100, 6 } );
+        assertEquals( 3, lista.getCantidadEnteros( ), "La cantidad de enteros no disminuyó correctamente" );
+        assertEquals( 0, lista.contarApariciones( 6 ), "No se eliminaron todas las apariciones del 6" );
+        assertEquals( 0, lista.contarApariciones( 9 ), "No se eliminaron todas las apariciones del 9" );
+        assertEquals( 2, lista.contarApariciones( 8 ), "Se eliminaron valores que no estaban en la lista" );
+
+        vacio.eliminarEnteros( new int[]{ 1 } );
+        assertEquals( 0, vacio.getCantidadEnteros( ), "La cantidad de enteros debería seguir siendo la misma" );
+    }
+
+    @Test
+    void testEliminarCadenas( )
+    {
+        SandboxListas lista = new SandboxListas( TipoListaCadenas.BUFFER_CON_HUECO );
+        for( String cadena : new String[]{ "a", "b", "c", "d", "a", "e" } )
+            lista.agregarCadena( cadena );
+
+        lista.eliminarCadenas( Arrays.asList( "a", "d", "z" ) );
+        assertEquals( 3, lista.getCantidadCadenas( ), "No se eliminaron correctamente las cadenas" );
+        assertEquals( Arrays.asList( "b", "c", "e" ), lista.getCopiaCadenas( ), "El orden de las cadenas restantes no es correcto" );
+
+        lista.eliminarCadenas( null );
+        assertEquals( 3, lista.getCantidadCadenas( ), "La cantidad de cadenas debería seguir siendo la misma" );
+    }
+
+    @Test
+    void testModoParalelo( )
+    {
+        SandboxListas secuencial = new SandboxListas( );
+        SandboxListas paralelo = new SandboxListas( );
+        secuencial.generarEnteros( 20000, -100, 100, 11L );
+        paralelo.generarEnteros( 20000, -100, 100, 11L );
+        paralelo.setModoEjecucion( ModoEjecucion.PARALELO );
+        paralelo.setUmbralParalelo( 64 );
+        paralelo.setPoolParalelo( new ForkJoinPool( 4 ) );
+
+        assertEquals( ModoEjecucion.PARALELO, paralelo.getModoEjecucion( ), "El modo de ejecución no cambió" );
+        assertEquals( secuencial.contarApariciones( 7 ), paralelo.contarApariciones( 7 ), "El conteo en paralelo no coincide con el secuencial" );
+        assertEquals( secuencial.contarEnterosRepetidos( ), paralelo.contarEnterosRepetidos( ), "Los repetidos en paralelo no coinciden con el secuencial" );
+
+        secuencial.organizarEnteros( );
+        paralelo.organizarEnteros( );
+        assertEquals( secuencial.getCopiaEnteros( ), paralelo.getCopiaEnteros( ), "El ordenamiento en paralelo no coincide con el secuencial" );
+
+        secuencial.volverPositivos( );
+        paralelo.volverPositivos( );
+        assertEquals( secuencial.getCopiaEnteros( ), paralelo.getCopiaEnteros( ), "volverPositivos en paralelo no coincide con el secuencial" );
+    }
+
+    @Test
+    void testModoAutomaticoPequeno( )
+    {
+        SandboxListas lista = new SandboxListas( );
+        for( int valor : new int[]{ 4, -7, 6, 6, 12, 0, 6, 4, 3 } )
+            lista.agregarEntero( valor );
+        lista.setModoEjecucion( ModoEjecucion.AUTOMATICO );
+
+        assertEquals( 3, lista.contarApariciones( 6 ), "El número de apariciones no es correcto" );
+        assertEquals( 2, lista.contarEnterosRepetidos( ), "El número de repetidos no es correcto" );
+        lista.setModoEjecucion( null );
+        assertEquals( ModoEjecucion.SECUENCIAL, lista.getModoEjecucion( ), "null debería equivaler al modo secuencial" );
+    }
+
+    @Test
+    void testConteoIncremental( )
+    {
+        SandboxListas incremental = new SandboxListas( );
+        SandboxListas normal = new SandboxListas( );
+        SandboxListas[] ambos = new SandboxListas[]{ incremental, normal };
+        for( SandboxListas s : ambos )
+            for( int valor : new int[]{ 4, -4, 6, 6, 12, 0, 7 } )
+                s.agregarEntero( valor );
+        incremental.setConteoIncremental( true );
+        assertEquals( 1, incremental.contarEnterosRepetidos( ), "El conteo inicial de repetidos no es correcto" );
+
+        for( SandboxListas s : ambos )
+        {
+            s.agregarEntero( 12 );
+            s.insertarEntero( 0, 2 );
+            s.eliminarEntero( 6 );
+            s.eliminarEnteroPorPosicion( 0 );
+            s.eliminarEnteros( new int[]{ 7, 100 } );
+        }
+        assertEquals( normal.contarEnterosRepetidos( ), incremental.contarEnterosRepetidos( ), "Los repetidos no se mantuvieron al día" );
+        assertEquals( normal.contarApariciones( 12 ), incremental.contarApariciones( 12 ), "Las apariciones no se mantuvieron al día" );
+        assertEquals( 0, incremental.contarApariciones( 7 ), "Las apariciones de un valor eliminado deberían ser 0" );
+
+        for( SandboxListas s : ambos )
+            s.volverPositivos( );
+        assertEquals( normal.contarEnterosRepetidos( ), incremental.contarEnterosRepetidos( ), "Los repetidos no se actualizaron al volver positivos" );
+
+        for( SandboxListas s : ambos )
+            s.generarEnteros( 500, 0, 100, 5L );
+        assertEquals( normal.contarEnterosRepetidos( ), incremental.contarEnterosRepetidos( ), "Los repetidos no se actualizaron al generar" );
+
+        incremental.reiniciarArregloEnteros( null );
+        assertEquals( 0, incremental.contarEnterosRepetidos( ), "Los repetidos no se actualizaron al reiniciar" );
+        incremental.setConteoIncremental( false );
+        assertEquals( 0, incremental.contarApariciones( 5 ), "Sin conteo incremental las apariciones deberían seguir siendo correctas" );
+    }
+
+    @Test
+    void testTopYBottomEnteros( )
+    {
+        SandboxListas lista = new SandboxListas( );
+        for( int valor : new int[]{ 5, -3, 12, 7, 7, 0, -8, 12, 1 } )
+            lista.agregarEntero( valor );
+
+        assertTrue( Arrays.equals( new int[]{ 12, 12, 7 }, lista.topEnteros( 3 ) ), "Los mayores enteros no son los correctos" );
+        assertTrue( Arrays.equals( new int[]{ -8, -3, 0, 1 }, lista.bottomEnteros( 4 ) ), "Los menores enteros no son los correctos" );
+        assertEquals( 0, lista.topEnteros( 0 ).length, "Con k = 0 no debería retornar enteros" );
+        assertEquals( 9, lista.bottomEnteros( 20 ).length, "Con k mayor que el tamaño debería retornar todos los enteros" );
+        assertTrue( Arrays.equals( new int[]{ 5, -3, 12, 7, 7, 0, -8, 12, 1 }, lista.getEnterosComoArreglo( ) ), "La lista no debería cambiar" );
+    }
+
+    @Test
+    void testOrganizarParcialmente( )
+    {
+        SandboxListas lista = new SandboxListas( );
+        lista.generarEnteros( 2000, -50, 50, 17L );
+        int[] esperado = lista.getEnterosComoArreglo( );
+        Arrays.sort( esperado );
+
+        lista.organizarParcialmente( 10 );
+        int[] resultado = lista.getEnterosComoArreglo( );
+        for( int i = 0; i < 10; i++ )
+            assertEquals( esperado[ esperado.length - 1 - i ], resultado[ i ], "La posición " + i + " no tiene el valor esperado" );
+        Arrays.sort( resultado );
+        assertTrue( Arrays.equals( esperado, resultado ), "Se perdieron o cambiaron enteros al ordenar parcialmente" );
+
+        lista.organizarParcialmente( 5000 );
+        int[] completo = lista.getEnterosComoArreglo( );
+        for( int i = 1; i < completo.length; i++ )
+            assertTrue( completo[ i - 1 ] >= completo[ i ], "Con k mayor que el tamaño la lista debería quedar toda ordenada" );
+    }
+
+    @Test
+    void testListaEnterosEscalonada( )
+    {
+        SandboxListas arreglo = new SandboxListas( );
+        SandboxListas escalonada = new SandboxListas( TipoListaEnteros.ESCALONADA, null );
+        SandboxListas[] ambos = new SandboxListas[]{ arreglo, escalonada };
+        for( SandboxListas s : ambos )
+        {
+            s.generarEnteros( 3000, -20, 20, 9L );
+            for( int i = 0; i < 500; i++ )
+            {
+                s.insertarEntero( i, i * 7 - 1000 );
+                s.eliminarEnteroPorPosicion( i * 3 );
+            }
+            s.insertarEntero( 1, -5 );
+            s.insertarEntero( 2, 100000 );
+            s.eliminarEntero( 0 );
+        }
+        assertEquals( arreglo.getCopiaEnteros( ), escalonada.getCopiaEnteros( ), "Las dos implementaciones deberían tener los mismos enteros" );
+        assertEquals( arreglo.contarEnterosRepetidos( ), escalonada.contarEnterosRepetidos( ), "Los repetidos deberían coincidir" );
+
+        for( SandboxListas s : ambos )
+            s.organizarEnteros( );
+        assertEquals( arreglo.getCopiaEnteros( ), escalonada.getCopiaEnteros( ), "El ordenamiento debería coincidir" );
+    }
+
+    @Test
+    void testVistasSinCopia( )
+    {
+        SandboxListas lista = new SandboxListas( TipoListaEnteros.ESCALONADA, TipoListaCadenas.ENLAZADA );
+        lista.agregarEntero( 3 );
+        lista.agregarEntero( 1 );
+        lista.agregarCadena( "b" );
+        List<Integer> enteros = lista.getVistaEnteros( );
+        List<String> cadenas = lista.getVistaCadenas( );
+
+        lista.insertarEntero( 5, 1 );
+        lista.agregarCadena( "a" );
+        assertEquals( Arrays.asList( 3, 5, 1 ), enteros, "La vista no refleja los cambios a los enteros" );
+        assertEquals( Arrays.asList( "b", "a" ), cadenas, "La vista no refleja los cambios a las cadenas" );
+
+        Iterator<String> it = cadenas.iterator( );
+        it.next( );
+        lista.organizarCadenas( );
+        try
+        {
+            it.next( );
+            fail( "El iterador de la vista debería fallar si la lista cambia" );
+        }
+        catch( ConcurrentModificationException e )
+        {
+            // Se esperaba esta excepción
+        }
+        try
+        {
+            enteros.set( 0, 4 );
+            fail( "La vista no debería permitir modificaciones" );
+        }
+        catch( UnsupportedOperationException e )
+        {
+            // Se esperaba esta excepción
+        }
+    }
+
+    @Test
+    void testInstantaneas( )
+    {
+        SandboxListas lista = new SandboxListas( );
+        for( int valor : new int[]{ 3, 1, 2 } )
+            lista.agregarEntero( valor );
+        lista.agregarCadena( "b" );
+        lista.agregarCadena( "a" );
+        List<Integer> enteros = lista.getInstantaneaEnteros( );
+        List<String> cadenas = lista.getInstantaneaCadenas( );
+        assertEquals( enteros, lista.getInstantaneaEnteros( ), "Dos instantáneas sin cambios en medio deberían ser iguales" );
+
+        lista.organizarEnteros( );
+        lista.eliminarEnteroPorPosicion( 0 );
+        lista.organizarCadenas( );
+        assertEquals( Arrays.asList( 3, 1, 2 ), enteros, "La instantánea de enteros no debería cambiar" );
+        assertEquals( Arrays.asList( "b", "a" ), cadenas, "La instantánea de cadenas no debería cambiar" );
+        assertEquals( Arrays.asList( 2, 1 ), lista.getCopiaEnteros( ), "Los cambios después de la instantánea no se aplicaron" );
+        assertEquals( Arrays.asList( "a", "b" ), lista.getCopiaCadenas( ), "Los cambios después de la instantánea no se aplicaron" );
+
+        List<String> otra = lista.getInstantaneaCadenas( );
+        lista.reiniciarArregloCadenas( Arrays.asList( ( Object )"z" ) );
+        assertEquals( Arrays.asList( "a", "b" ), otra, "La instantánea no debería cambiar al reiniciar las cadenas" );
+        assertEquals( Arrays.asList( "z" ), lista.getCopiaCadenas( ), "Las cadenas no se reiniciaron" );
+    }
+
+    @Test
+    void testGenerarConDistribuciones( )
+    {
+        for( DistribucionEnteros distribucion : DistribucionEnteros.values( ) )
+        {
+            SandboxListas lista = new SandboxListas( );
+            lista.generarEnteros( 50000, -100, 899, distribucion, 21L );
+            assertEquals( 50000, lista.getCantidadEnteros( ), "No se generó la cantidad correcta con " + distribucion );
+            for( int valor : lista.getEnterosComoArreglo( ) )
+                assertTrue( valor >= -100 && valor <= 899, "Se generó un entero por fuera del rango con " + distribucion );
+
+            SandboxListas paralela = new SandboxListas( );
+            paralela.setModoEjecucion( ModoEjecucion.PARALELO );
+            paralela.setUmbralParalelo( 1 );
+            paralela.generarEnteros( 50000, -100, 899, distribucion, 21L );
+            assertEquals( lista.getCopiaEnteros( ), paralela.getCopiaEnteros( ), "Con la misma semilla el llenado paralelo debería ser idéntico con " + distribucion );
+        }
+    }
+
+    @Test
+    void testFormaDistribuciones( )
+    {
+        SandboxListas zipf = new SandboxListas( );
+        zipf.generarEnteros( 50000, 0, 999, DistribucionEnteros.ZIPF, 4L );
+        int[] top = zipf.topEnteros( 1 );
+        assertTrue( zipf.contarApariciones( 0 ) > zipf.contarApariciones( 1 ), "En Zipf el mínimo debería ser el valor más frecuente" );
+        assertTrue( zipf.contarApariciones( 0 ) > 5000, "En Zipf el mínimo debería concentrar muchas apariciones" );
+        assertTrue( top[ 0 ] > 500, "En Zipf también deberían aparecer valores grandes" );
+
+        SandboxListas normal = new SandboxListas( );
+        normal.generarEnteros( 50000, 0, 600, DistribucionEnteros.NORMAL, 4L );
+        int centro = 0;
+        for( int valor : normal.getEnterosComoArreglo( ) )
+            if( valor >= 200 && valor <= 400 )
+                centro++;
+        assertTrue( centro > 30000, "En la normal la mayoría de los valores debería estar a una desviación de la media" );
+
+        SandboxListas secuencial = new SandboxListas( );
+        secuencial.generarEnteros( 1000, 0, 9999, DistribucionEnteros.SECUENCIAL_CON_RUIDO, 4L );
+        int[] valores = secuencial.getEnterosComoArreglo( );
+        for( int i = 0; i < valores.length; i++ )
+            assertTrue( Math.abs( valores[ i ] - i ) <= 100, "El valor en la posición " + i + " se alejó demasiado de la secuencia" );
+    }
+
 }